@@ -0,0 +1,40 @@
+package math;
+
+import java.util.Collections;
+import java.util.Map;
+
+// Outcome of timing the training kernels on every available backend, the time of each is its best measured round.
+public final class BackendCalibration {
+
+    private final Map<LinearAlgebraBackend, Long> nanos;
+    private final LinearAlgebraBackend fastest;
+
+    BackendCalibration(Map<LinearAlgebraBackend, Long> nanos) {
+        if (nanos.isEmpty())
+            throw new IllegalArgumentException("Calibration needs at least one backend.");
+
+        this.nanos = Collections.unmodifiableMap(nanos);
+        this.fastest = Collections.min(nanos.entrySet(), Map.Entry.comparingByValue()).getKey();
+    }
+
+    public LinearAlgebraBackend getFastest() {
+        return fastest;
+    }
+
+    // In the order the backends were timed.
+    public Map<LinearAlgebraBackend, Long> getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder();
+
+        for (var entry : nanos.entrySet()) {
+            if (builder.length() > 0) builder.append(", ");
+            builder.append(entry.getKey().getName()).append(' ').append(entry.getValue() / 1000).append(" us");
+        }
+
+        return builder.toString();
+    }
+}
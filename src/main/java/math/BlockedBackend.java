@@ -0,0 +1,207 @@
+package math;
+
+import java.util.Arrays;
+
+public class BlockedBackend extends ScalarBackend {
+
+    // Number of columns processed at once, chosen so that a block of the vector fits in L1.
+    private static final int BLOCK_SIZE = 512;
+
+    // Inner and column extent of the tiles of the right operand in matrix products, 256 KB of doubles.
+    private static final int INNER_TILE = 128;
+    private static final int COLUMN_TILE = 256;
+
+    @Override
+    public String getName() {
+        return "Blocked";
+    }
+
+    @Override
+    public void timesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        Arrays.fill(destination, 0, rows, 0);
+
+        for (int start = 0; start < columns; start += BLOCK_SIZE) {
+            var end = Math.min(start + BLOCK_SIZE, columns);
+            int row = 0;
+
+            // Four rows at a time, so every vector element is loaded once per four products.
+            for (; row + 3 < rows; row += 4) {
+                int o0 = row * columns, o1 = o0 + columns, o2 = o1 + columns, o3 = o2 + columns;
+                double v0 = 0, v1 = 0, v2 = 0, v3 = 0;
+
+                for (int col = start; col < end; col++) {
+                    var x = vector[col];
+                    v0 += matrix[o0 + col] * x;
+                    v1 += matrix[o1 + col] * x;
+                    v2 += matrix[o2 + col] * x;
+                    v3 += matrix[o3 + col] * x;
+                }
+
+                destination[row] += v0;
+                destination[row + 1] += v1;
+                destination[row + 2] += v2;
+                destination[row + 3] += v3;
+            }
+
+            for (; row < rows; row++) {
+                var value = 0.0;
+
+                for (int col = start, offset = row * columns; col < end; col++) {
+                    value += matrix[offset + col] * vector[col];
+                }
+
+                destination[row] += value;
+            }
+        }
+    }
+
+    @Override
+    public void transposeTimesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        Arrays.fill(destination, 0, columns, 0);
+
+        for (int start = 0; start < columns; start += BLOCK_SIZE) {
+            var end = Math.min(start + BLOCK_SIZE, columns);
+
+            for (int row = 0; row < rows; row++) {
+                var scalar = vector[row];
+
+                for (int col = start, offset = row * columns; col < end; col++) {
+                    destination[col] += matrix[offset + col] * scalar;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void addOuterProduct(double[] matrix, int rows, int columns, double scalar, double[] left, double[] right) {
+        for (int start = 0; start < columns; start += BLOCK_SIZE) {
+            var end = Math.min(start + BLOCK_SIZE, columns);
+
+            for (int row = 0; row < rows; row++) {
+                var rowScalar = scalar * left[row];
+
+                for (int col = start, offset = row * columns; col < end; col++) {
+                    matrix[offset + col] += rowScalar * right[col];
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void multiplyRowsInto(double[] left, int inner, double[] right, int columns, double[] destination, int fromRow, int toRow) {
+        multiplyBlocks(left, inner, 1, right, columns, 1, inner, destination, columns, fromRow, toRow, 1, false);
+    }
+
+    @Override
+    protected void multiplyTransposedRowsInto(double[] left, int inner, double[] right, int columns, double[] destination, int fromRow, int toRow) {
+        multiplyBlocks(left, inner, 1, right, 1, inner, inner, destination, columns, fromRow, toRow, 1, false);
+    }
+
+    @Override
+    protected void addTransposeMultipliedRows(double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination, int fromRow, int toRow) {
+        multiplyBlocks(left, 1, rows, right, columns, 1, inner, destination, columns, fromRow, toRow, scalar, true);
+    }
+
+    // Computes destination[i][j] (+)= scalar * sum_k left[i][k] * right[k][j] for the given destination rows, where
+    // the strides describe how both operands are laid out. The product is built up one tile of right at a time, so the
+    // tile stays in L2 while every block of rows passes over it, and every tile after the first adds to the earlier ones.
+    private static void multiplyBlocks(double[] left, int leftRowStride, int leftInnerStride,
+                                       double[] right, int rightInnerStride, int rightColumnStride,
+                                       int inner, double[] destination, int columns,
+                                       int fromRow, int toRow, double scalar, boolean accumulate) {
+        for (int fromInner = 0; fromInner < inner; fromInner += INNER_TILE) {
+            var toInner = Math.min(fromInner + INNER_TILE, inner);
+
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += COLUMN_TILE) {
+                var toColumn = Math.min(fromColumn + COLUMN_TILE, columns);
+
+                multiplyTile(left, leftRowStride, leftInnerStride, right, rightInnerStride, rightColumnStride,
+                        fromInner, toInner, destination, columns, fromRow, toRow, fromColumn, toColumn,
+                        scalar, accumulate || fromInner > 0);
+            }
+        }
+    }
+
+    // Every 4x4 block of the destination is kept in 16 local accumulators, so each loaded element is used four times
+    // and the additions do not form one long dependency chain.
+    private static void multiplyTile(double[] left, int leftRowStride, int leftInnerStride,
+                                     double[] right, int rightInnerStride, int rightColumnStride,
+                                     int fromInner, int toInner, double[] destination, int columns,
+                                     int fromRow, int toRow, int fromColumn, int toColumn, double scalar, boolean accumulate) {
+        int row = fromRow;
+
+        for (; row + 3 < toRow; row += 4) {
+            int col = fromColumn;
+
+            for (; col + 3 < toColumn; col += 4) {
+                double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+                double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+                double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+                double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+                for (int k = fromInner; k < toInner; k++) {
+                    var l = row * leftRowStride + k * leftInnerStride;
+                    var l0 = left[l];
+                    var l1 = left[l + leftRowStride];
+                    var l2 = left[l + 2 * leftRowStride];
+                    var l3 = left[l + 3 * leftRowStride];
+
+                    var r = k * rightInnerStride + col * rightColumnStride;
+                    var r0 = right[r];
+                    var r1 = right[r + rightColumnStride];
+                    var r2 = right[r + 2 * rightColumnStride];
+                    var r3 = right[r + 3 * rightColumnStride];
+
+                    c00 += l0 * r0; c01 += l0 * r1; c02 += l0 * r2; c03 += l0 * r3;
+                    c10 += l1 * r0; c11 += l1 * r1; c12 += l1 * r2; c13 += l1 * r3;
+                    c20 += l2 * r0; c21 += l2 * r1; c22 += l2 * r2; c23 += l2 * r3;
+                    c30 += l3 * r0; c31 += l3 * r1; c32 += l3 * r2; c33 += l3 * r3;
+                }
+
+                store(destination, row * columns + col, c00, c01, c02, c03, scalar, accumulate);
+                store(destination, (row + 1) * columns + col, c10, c11, c12, c13, scalar, accumulate);
+                store(destination, (row + 2) * columns + col, c20, c21, c22, c23, scalar, accumulate);
+                store(destination, (row + 3) * columns + col, c30, c31, c32, c33, scalar, accumulate);
+            }
+
+            multiplyElements(left, leftRowStride, leftInnerStride, right, rightInnerStride, rightColumnStride,
+                    fromInner, toInner, destination, columns, row, row + 4, col, toColumn, scalar, accumulate);
+        }
+
+        multiplyElements(left, leftRowStride, leftInnerStride, right, rightInnerStride, rightColumnStride,
+                fromInner, toInner, destination, columns, row, toRow, fromColumn, toColumn, scalar, accumulate);
+    }
+
+    private static void multiplyElements(double[] left, int leftRowStride, int leftInnerStride,
+                                         double[] right, int rightInnerStride, int rightColumnStride,
+                                         int fromInner, int toInner, double[] destination, int columns,
+                                         int fromRow, int toRow, int fromColumn, int toColumn, double scalar, boolean accumulate) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = fromColumn; col < toColumn; col++) {
+                var value = 0.0;
+
+                for (int k = fromInner; k < toInner; k++) {
+                    value += left[row * leftRowStride + k * leftInnerStride] * right[k * rightInnerStride + col * rightColumnStride];
+                }
+
+                var index = row * columns + col;
+                destination[index] = accumulate ? destination[index] + scalar * value : scalar * value;
+            }
+        }
+    }
+
+    private static void store(double[] destination, int index, double v0, double v1, double v2, double v3, double scalar, boolean accumulate) {
+        if (accumulate) {
+            destination[index] += scalar * v0;
+            destination[index + 1] += scalar * v1;
+            destination[index + 2] += scalar * v2;
+            destination[index + 3] += scalar * v3;
+        }
+        else {
+            destination[index] = scalar * v0;
+            destination[index + 1] = scalar * v1;
+            destination[index + 2] = scalar * v2;
+            destination[index + 3] = scalar * v3;
+        }
+    }
+}
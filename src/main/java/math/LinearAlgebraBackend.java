@@ -0,0 +1,24 @@
+package math;
+
+public interface LinearAlgebraBackend {
+    String getName();
+
+    double dot(double[] left, double[] right, int length);
+
+    void scaleAndAdd(double scalar, double[] source, double[] destination, int length);
+
+    void timesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination);
+
+    void transposeTimesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination);
+
+    void addOuterProduct(double[] matrix, int rows, int columns, double scalar, double[] left, double[] right);
+
+    // destination (rows x columns) = left (rows x inner) * right (inner x columns)
+    void multiplyInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination);
+
+    // destination (rows x columns) = left (rows x inner) * transpose(right (columns x inner))
+    void multiplyTransposedInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination);
+
+    // destination (rows x columns) += scalar * transpose(left (inner x rows)) * right (inner x columns)
+    void addTransposeMultiplied(double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination);
+}
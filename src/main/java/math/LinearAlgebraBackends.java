@@ -0,0 +1,132 @@
+package math;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+public final class LinearAlgebraBackends {
+
+    private static final String PREFERRED_DEFAULT_BACKEND = "Vectorized";
+
+    private static final int CALIBRATION_WARMUP_ROUNDS = 10;
+    private static final int CALIBRATION_MEASURED_ROUNDS = 5;
+    private static final long CALIBRATION_ELEMENTS_PER_ROUND = 1 << 20;
+
+    // Training feeds larger batches through its matrix-matrix kernels in blocks of at most this many samples.
+    private static final int MAX_CALIBRATION_BLOCK_SIZE = 256;
+
+    private static final List<LinearAlgebraBackend> AVAILABLE_BACKENDS = loadAvailableBackends();
+
+    private static final LinearAlgebraBackend DEFAULT_BACKEND = find(PREFERRED_DEFAULT_BACKEND).orElse(AVAILABLE_BACKENDS.get(0));
+
+    private LinearAlgebraBackends() {
+    }
+
+    // Never changes, a network that should run on another backend is given that backend instead.
+    public static LinearAlgebraBackend getDefault() {
+        return DEFAULT_BACKEND;
+    }
+
+    public static List<LinearAlgebraBackend> getAvailable() {
+        return AVAILABLE_BACKENDS;
+    }
+
+    public static Optional<LinearAlgebraBackend> find(String name) {
+        return AVAILABLE_BACKENDS.stream()
+                .filter(backend -> backend.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    // Times the kernels that training with the given batch size runs: mat-vec products for single samples and
+    // matrix-matrix products for every larger batch.
+    public static BackendCalibration calibrate(int[] layers, int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be at least 1.");
+
+        var blockSize = Math.min(batchSize, MAX_CALIBRATION_BLOCK_SIZE);
+        var matrices = new double[layers.length - 1][];
+        var blocks = new double[layers.length][];
+        var results = new double[layers.length][];
+        var random = new Random(layers.length);
+        var elementsPerPass = 0L;
+
+        // Every block holds one row per sample, a block of a single sample is simply a vector.
+        for (int layer = 0; layer < layers.length; layer++) {
+            blocks[layer] = random.doubles((long) blockSize * layers[layer]).toArray();
+            results[layer] = new double[blockSize * layers[layer]];
+        }
+
+        for (int layer = 0; layer < matrices.length; layer++) {
+            matrices[layer] = random.doubles((long) layers[layer + 1] * layers[layer]).toArray();
+            elementsPerPass += (long) matrices[layer].length * blockSize;
+        }
+
+        var passes = (int) Math.max(1, CALIBRATION_ELEMENTS_PER_ROUND / elementsPerPass);
+        var times = new LinkedHashMap<LinearAlgebraBackend, Long>();
+
+        for (var candidate : AVAILABLE_BACKENDS) {
+            for (int round = 0; round < CALIBRATION_WARMUP_ROUNDS; round++) {
+                runTrainingKernels(candidate, layers, blockSize, matrices, blocks, results, passes);
+            }
+
+            var bestTime = Long.MAX_VALUE;
+
+            for (int round = 0; round < CALIBRATION_MEASURED_ROUNDS; round++) {
+                var start = System.nanoTime();
+                runTrainingKernels(candidate, layers, blockSize, matrices, blocks, results, passes);
+                bestTime = Math.min(bestTime, System.nanoTime() - start);
+            }
+
+            times.put(candidate, bestTime);
+        }
+
+        return new BackendCalibration(times);
+    }
+
+    // Mirrors one training step: the forward pass, propagating the errors back and the delta weights update, per sample
+    // or per block of samples like backpropagation itself.
+    private static void runTrainingKernels(LinearAlgebraBackend backend, int[] layers, int blockSize, double[][] matrices, double[][] blocks, double[][] results, int passes) {
+        for (int pass = 0; pass < passes; pass++) {
+            for (int layer = 0; layer < matrices.length; layer++) {
+                int rows = layers[layer + 1], columns = layers[layer];
+
+                if (blockSize == 1) {
+                    backend.timesInto(matrices[layer], rows, columns, blocks[layer], results[layer + 1]);
+                    backend.transposeTimesInto(matrices[layer], rows, columns, blocks[layer + 1], results[layer]);
+                    backend.addOuterProduct(matrices[layer], rows, columns, 1e-9, blocks[layer + 1], blocks[layer]);
+                }
+                else {
+                    backend.multiplyTransposedInto(blocks[layer], blockSize, columns, matrices[layer], rows, results[layer + 1]);
+                    backend.multiplyInto(blocks[layer + 1], blockSize, rows, matrices[layer], columns, results[layer]);
+                    backend.addTransposeMultiplied(1e-9, blocks[layer + 1], rows, blockSize, blocks[layer], columns, matrices[layer]);
+                }
+            }
+        }
+    }
+
+    private static List<LinearAlgebraBackend> loadAvailableBackends() {
+        var backends = new ArrayList<LinearAlgebraBackend>();
+        var iterator = ServiceLoader.load(LinearAlgebraBackend.class).iterator();
+
+        while (true) {
+            try {
+                if (!iterator.hasNext()) break;
+                backends.add(iterator.next());
+            } catch (ServiceConfigurationError | LinkageError error) {
+                // The vectorized backend ends up here when 'jdk.incubator.vector' is not added to the JVM.
+                System.err.println("Skipping unavailable linear algebra backend: " + error.getMessage());
+            }
+        }
+
+        if (backends.isEmpty()) {
+            backends.add(new ScalarBackend());
+        }
+
+        return Collections.unmodifiableList(backends);
+    }
+}
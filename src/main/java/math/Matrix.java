@@ -1,5 +1,7 @@
 package math;
 
+import java.util.Arrays;
+
 public final class Matrix {
 
     private final int rows;
@@ -40,30 +42,112 @@ public final class Matrix {
     }
 
     public Matrix plus(Matrix other) {
-        var values = this.values.clone();
+        var result = Matrix.of(rows, columns, values.clone());
+        result.addInPlace(other);
+        return result;
+    }
+
+    public void addInPlace(Matrix other) {
+        addInPlace(LinearAlgebraBackends.getDefault(), other);
+    }
+
+    // The operations that take a backend run their kernels on it, the others on the default backend.
+    public void addInPlace(LinearAlgebraBackend backend, Matrix other) {
+        scaleAndAddInPlace(backend, 1, other);
+    }
+
+    public void scaleAndAddInPlace(LinearAlgebraBackend backend, double scalar, Matrix other) {
+        backend.scaleAndAdd(scalar, other.values, values, values.length);
+    }
+
+    public void addOuterProduct(LinearAlgebraBackend backend, double scalar, Vector left, Vector right) {
+        backend.addOuterProduct(values, rows, columns, scalar, left.getValues(), right.getValues());
+    }
+
+    public void addTransposeTimes(LinearAlgebraBackend backend, double scalar, Matrix left, Matrix right) {
+        backend.addTransposeMultiplied(scalar, left.values, rows, left.rows, right.values, columns, values);
+    }
+
+    public void addColumnSumsTo(double scalar, Vector destination) {
+        var sums = destination.getValues();
 
         for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < columns; col++) {
-                values[row * columns + col] += other.get(row, col);
+            for (int col = 0, offset = row * columns; col < columns; col++) {
+                sums[col] += scalar * values[offset + col];
             }
         }
+    }
+
+    public void setRow(int row, double[] values) {
+        if (values.length != columns)
+            throw new IllegalArgumentException("Expected " + columns + " values, but got " + values.length + ".");
+
+        System.arraycopy(values, 0, this.values, row * columns, columns);
+    }
 
-        return Matrix.of(other.rows, other.columns, values);
+    public double[] getRow(int row) {
+        return Arrays.copyOfRange(values, row * columns, (row + 1) * columns);
+    }
+
+    public void setToZero() {
+        Arrays.fill(values, 0);
+    }
+
+    // The backing row-major array itself, so writes to it change the matrix.
+    public double[] getValues() {
+        return values;
+    }
+
+    // Row-major copy of all the values.
+    public double[] toArray() {
+        return values.clone();
     }
 
     public Vector times(Vector vector) {
         var result = Vector.zero(rows);
+        timesInto(LinearAlgebraBackends.getDefault(), vector, result);
+        return result;
+    }
 
-        for (int row = 0; row < rows; row++) {
-            var value = 0.0;
+    public void timesInto(LinearAlgebraBackend backend, Vector vector, Vector destination) {
+        backend.timesInto(values, rows, columns, vector.getValues(), destination.getValues());
+    }
 
-            for (int i = 0; i < columns; i++) {
-                value += values[row * columns + i] * vector.get(i);
-            }
+    public Vector transposeTimes(Vector vector) {
+        var result = Vector.zero(columns);
+        transposeTimesInto(LinearAlgebraBackends.getDefault(), vector, result);
+        return result;
+    }
+
+    public void transposeTimesInto(LinearAlgebraBackend backend, Vector vector, Vector destination) {
+        backend.transposeTimesInto(values, rows, columns, vector.getValues(), destination.getValues());
+    }
+
+    public void timesPlusInto(LinearAlgebraBackend backend, Vector vector, Vector bias, Vector destination) {
+        timesInto(backend, vector, destination);
 
-            result.set(row, value);
+        var result = destination.getValues();
+        var offsets = bias.getValues();
+
+        for (int row = 0; row < rows; row++) {
+            result[row] += offsets[row];
         }
+    }
 
-        return result;
+    public void timesInto(LinearAlgebraBackend backend, Matrix other, Matrix destination) {
+        backend.multiplyInto(values, rows, columns, other.values, other.columns, destination.values);
+    }
+
+    public void timesTransposePlusInto(LinearAlgebraBackend backend, Matrix other, Vector bias, Matrix destination) {
+        backend.multiplyTransposedInto(values, rows, columns, other.values, other.rows, destination.values);
+
+        var result = destination.values;
+        var offsets = bias.getValues();
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0, offset = row * other.rows; col < other.rows; col++) {
+                result[offset + col] += offsets[col];
+            }
+        }
     }
 }
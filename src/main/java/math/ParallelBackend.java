@@ -0,0 +1,235 @@
+package math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class ParallelBackend extends ScalarBackend {
+
+    // Below this many matrix elements, splitting the work costs more than it saves.
+    private static final int MIN_PARALLEL_ELEMENTS = 1 << 16;
+
+    private enum Operation {
+        TIMES, TRANSPOSE_TIMES, OUTER_PRODUCT, MULTIPLY, MULTIPLY_TRANSPOSED, ADD_TRANSPOSE_MULTIPLIED
+    }
+
+    private final int parallelism;
+
+    // One job per calling thread, so networks that fit or predict on different threads never share operands.
+    private final ThreadLocal<Job> jobs = ThreadLocal.withInitial(Job::new);
+
+    public ParallelBackend() {
+        this(ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    // Splits every large enough product into this many chunks, which run in the pool of the calling thread, or in the
+    // common pool when it is not in one.
+    public ParallelBackend(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism + ".");
+
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel";
+    }
+
+    @Override
+    public void timesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        var job = claimJob(rows, columns);
+
+        if (job == null) {
+            super.timesInto(matrix, rows, columns, vector, destination);
+            return;
+        }
+
+        job.run(Operation.TIMES, 1, matrix, rows, 0, vector, columns, destination);
+    }
+
+    @Override
+    public void transposeTimesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        var job = claimJob(rows, columns);
+
+        if (job == null) {
+            super.transposeTimesInto(matrix, rows, columns, vector, destination);
+            return;
+        }
+
+        job.run(Operation.TRANSPOSE_TIMES, 1, matrix, rows, 0, vector, columns, destination);
+    }
+
+    @Override
+    public void addOuterProduct(double[] matrix, int rows, int columns, double scalar, double[] left, double[] right) {
+        var job = claimJob(rows, columns);
+
+        if (job == null) {
+            super.addOuterProduct(matrix, rows, columns, scalar, left, right);
+            return;
+        }
+
+        job.run(Operation.OUTER_PRODUCT, scalar, left, rows, 0, right, columns, matrix);
+    }
+
+    @Override
+    public void multiplyInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        var job = claimJob(rows, (long) inner * columns);
+
+        if (job == null) {
+            super.multiplyInto(left, rows, inner, right, columns, destination);
+            return;
+        }
+
+        job.run(Operation.MULTIPLY, 1, left, rows, inner, right, columns, destination);
+    }
+
+    @Override
+    public void multiplyTransposedInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        var job = claimJob(rows, (long) inner * columns);
+
+        if (job == null) {
+            super.multiplyTransposedInto(left, rows, inner, right, columns, destination);
+            return;
+        }
+
+        job.run(Operation.MULTIPLY_TRANSPOSED, 1, left, rows, inner, right, columns, destination);
+    }
+
+    @Override
+    public void addTransposeMultiplied(double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        var job = claimJob(rows, (long) inner * columns);
+
+        if (job == null) {
+            super.addTransposeMultiplied(scalar, left, rows, inner, right, columns, destination);
+            return;
+        }
+
+        job.run(Operation.ADD_TRANSPOSE_MULTIPLIED, scalar, left, rows, inner, right, columns, destination);
+    }
+
+    private Job claimJob(int rows, long workPerRow) {
+        return parallelism > 1 && rows * workPerRow >= MIN_PARALLEL_ELEMENTS ? jobs.get() : null;
+    }
+
+    private int chunkStart(int chunk, int size) {
+        return (int) ((long) chunk * size / parallelism);
+    }
+
+    // The operands of one product and the tasks that compute its chunks. The tasks are created once and reinitialized
+    // before every product, so splitting a product does not allocate anything.
+    private final class Job {
+
+        private final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[parallelism];
+
+        private Operation operation;
+        private double scalar;
+        private double[] left;
+        private int rows;
+        private int inner;
+        private double[] right;
+        private int columns;
+        private double[] destination;
+
+        private Job() {
+            for (int chunk = 0; chunk < parallelism; chunk++) {
+                final var index = chunk;
+                tasks[chunk] = ForkJoinTask.adapt(() -> computeChunk(index));
+            }
+        }
+
+        private void run(Operation operation, double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+            this.operation = operation;
+            this.scalar = scalar;
+            this.left = left;
+            this.rows = rows;
+            this.inner = inner;
+            this.right = right;
+            this.columns = columns;
+            this.destination = destination;
+            try {
+                runTasks();
+            }
+            finally {
+                // Not keeping the operands alive until the next product.
+                this.left = null;
+                this.right = null;
+                this.destination = null;
+            }
+        }
+
+        // Joining a task that is still running would park this thread, which allocates a wait node. Instead, the
+        // first chunk runs here, the chunks no worker has taken yet are taken back, and the stolen ones are waited
+        // for by yielding. Joining a finished task only rethrows whatever it threw.
+        private void runTasks() {
+            for (var task : tasks) {
+                task.reinitialize();
+            }
+
+            for (int chunk = tasks.length - 1; chunk > 0; chunk--) {
+                tasks[chunk].fork();
+            }
+
+            tasks[0].invoke();
+
+            for (int chunk = 1; chunk < tasks.length; chunk++) {
+                if (tasks[chunk].tryUnfork()) tasks[chunk].invoke();
+            }
+
+            for (var task : tasks) {
+                while (!task.isDone()) Thread.yield();
+                task.join();
+            }
+        }
+
+        private void computeChunk(int chunk) {
+            switch (operation) {
+                case TIMES -> timesRows(chunkStart(chunk, rows), chunkStart(chunk + 1, rows));
+                case TRANSPOSE_TIMES -> transposeTimesColumns(chunkStart(chunk, columns), chunkStart(chunk + 1, columns));
+                case OUTER_PRODUCT -> addOuterProductRows(chunkStart(chunk, rows), chunkStart(chunk + 1, rows));
+                case MULTIPLY -> multiplyRowsInto(left, inner, right, columns, destination,
+                        chunkStart(chunk, rows), chunkStart(chunk + 1, rows));
+                case MULTIPLY_TRANSPOSED -> multiplyTransposedRowsInto(left, inner, right, columns, destination,
+                        chunkStart(chunk, rows), chunkStart(chunk + 1, rows));
+                case ADD_TRANSPOSE_MULTIPLIED -> addTransposeMultipliedRows(scalar, left, rows, inner, right, columns, destination,
+                        chunkStart(chunk, rows), chunkStart(chunk + 1, rows));
+            }
+        }
+
+        private void timesRows(int fromRow, int toRow) {
+            for (int row = fromRow; row < toRow; row++) {
+                var value = 0.0;
+
+                for (int col = 0, offset = row * columns; col < columns; col++) {
+                    value += left[offset + col] * right[col];
+                }
+
+                destination[row] = value;
+            }
+        }
+
+        // Split by columns so that every task owns a disjoint part of the destination.
+        private void transposeTimesColumns(int fromColumn, int toColumn) {
+            for (int col = fromColumn; col < toColumn; col++) {
+                destination[col] = 0;
+            }
+
+            for (int row = 0; row < rows; row++) {
+                var vectorScalar = right[row];
+
+                for (int col = fromColumn, offset = row * columns; col < toColumn; col++) {
+                    destination[col] += left[offset + col] * vectorScalar;
+                }
+            }
+        }
+
+        private void addOuterProductRows(int fromRow, int toRow) {
+            for (int row = fromRow; row < toRow; row++) {
+                var rowScalar = scalar * left[row];
+
+                for (int col = 0, offset = row * columns; col < columns; col++) {
+                    destination[offset + col] += rowScalar * right[col];
+                }
+            }
+        }
+    }
+}
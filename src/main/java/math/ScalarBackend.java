@@ -0,0 +1,121 @@
+package math;
+
+import java.util.Arrays;
+
+public class ScalarBackend implements LinearAlgebraBackend {
+
+    @Override
+    public String getName() {
+        return "Scalar";
+    }
+
+    @Override
+    public double dot(double[] left, double[] right, int length) {
+        var sum = 0.0;
+
+        for (int i = 0; i < length; i++) {
+            sum += left[i] * right[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public void scaleAndAdd(double scalar, double[] source, double[] destination, int length) {
+        for (int i = 0; i < length; i++) {
+            destination[i] += scalar * source[i];
+        }
+    }
+
+    @Override
+    public void timesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        for (int row = 0; row < rows; row++) {
+            var value = 0.0;
+
+            for (int col = 0, offset = row * columns; col < columns; col++) {
+                value += matrix[offset + col] * vector[col];
+            }
+
+            destination[row] = value;
+        }
+    }
+
+    @Override
+    public void transposeTimesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        Arrays.fill(destination, 0, columns, 0);
+
+        for (int row = 0; row < rows; row++) {
+            var scalar = vector[row];
+
+            for (int col = 0, offset = row * columns; col < columns; col++) {
+                destination[col] += matrix[offset + col] * scalar;
+            }
+        }
+    }
+
+    @Override
+    public void addOuterProduct(double[] matrix, int rows, int columns, double scalar, double[] left, double[] right) {
+        for (int row = 0; row < rows; row++) {
+            var rowScalar = scalar * left[row];
+
+            for (int col = 0, offset = row * columns; col < columns; col++) {
+                matrix[offset + col] += rowScalar * right[col];
+            }
+        }
+    }
+
+    @Override
+    public void multiplyInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        multiplyRowsInto(left, inner, right, columns, destination, 0, rows);
+    }
+
+    @Override
+    public void multiplyTransposedInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        multiplyTransposedRowsInto(left, inner, right, columns, destination, 0, rows);
+    }
+
+    @Override
+    public void addTransposeMultiplied(double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        addTransposeMultipliedRows(scalar, left, rows, inner, right, columns, destination, 0, rows);
+    }
+
+    protected void multiplyRowsInto(double[] left, int inner, double[] right, int columns, double[] destination, int fromRow, int toRow) {
+        Arrays.fill(destination, fromRow * columns, toRow * columns, 0);
+
+        for (int row = fromRow; row < toRow; row++) {
+            for (int k = 0, destinationOffset = row * columns; k < inner; k++) {
+                var scalar = left[row * inner + k];
+
+                for (int col = 0, rightOffset = k * columns; col < columns; col++) {
+                    destination[destinationOffset + col] += scalar * right[rightOffset + col];
+                }
+            }
+        }
+    }
+
+    protected void multiplyTransposedRowsInto(double[] left, int inner, double[] right, int columns, double[] destination, int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = 0, leftOffset = row * inner; col < columns; col++) {
+                var value = 0.0;
+
+                for (int k = 0, rightOffset = col * inner; k < inner; k++) {
+                    value += left[leftOffset + k] * right[rightOffset + k];
+                }
+
+                destination[row * columns + col] = value;
+            }
+        }
+    }
+
+    protected void addTransposeMultipliedRows(double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination, int fromRow, int toRow) {
+        for (int k = 0; k < inner; k++) {
+            for (int row = fromRow, leftOffset = k * rows; row < toRow; row++) {
+                var rowScalar = scalar * left[leftOffset + row];
+
+                for (int col = 0, rightOffset = k * columns, destinationOffset = row * columns; col < columns; col++) {
+                    destination[destinationOffset + col] += rowScalar * right[rightOffset + col];
+                }
+            }
+        }
+    }
+}
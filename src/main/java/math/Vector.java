@@ -31,12 +31,42 @@ public final class Vector {
     }
 
     public Vector plus(Vector other) {
-        var values = toArray();
+        var result = Vector.of(toArray());
+        result.addInPlace(other);
+        return result;
+    }
+
+    public void addInPlace(Vector other) {
+        addInPlace(LinearAlgebraBackends.getDefault(), other);
+    }
+
+    // The operations that take a backend run their kernels on it, the others on the default backend.
+    public void addInPlace(LinearAlgebraBackend backend, Vector other) {
+        scaleAndAddInPlace(backend, 1, other);
+    }
+
+    public void scaleAndAddInPlace(LinearAlgebraBackend backend, double scalar, Vector other) {
+        backend.scaleAndAdd(scalar, other.values, values, values.length);
+    }
 
-        for (int i = 0, size = size(); i < size; i++)
-            values[i] += other.values[i];
+    public double dot(Vector other) {
+        return LinearAlgebraBackends.getDefault().dot(values, other.values, values.length);
+    }
+
+    public void copyFrom(double[] values) {
+        if (values.length != this.values.length)
+            throw new IllegalArgumentException("Expected " + this.values.length + " values, but got " + values.length + ".");
+
+        System.arraycopy(values, 0, this.values, 0, values.length);
+    }
+
+    public void setToZero() {
+        Arrays.fill(values, 0);
+    }
 
-        return Vector.of(values);
+    // The backing array itself, so writes to it change the vector.
+    public double[] getValues() {
+        return values;
     }
 
     public double[] toArray() {
@@ -0,0 +1,209 @@
+package math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+public class VectorizedBackend implements LinearAlgebraBackend {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // Inner and column extent of the tiles of the right operand in matrix products, 256 KB of doubles. The column
+    // extent is a multiple of every vector length, so only the last tile of a row has a scalar tail.
+    private static final int INNER_TILE = 128;
+    private static final int COLUMN_TILE = 256;
+
+    private final ThreadLocal<double[]> transposeBuffer = ThreadLocal.withInitial(() -> new double[0]);
+
+    @Override
+    public String getName() {
+        return "Vectorized";
+    }
+
+    @Override
+    public double dot(double[] left, double[] right, int length) {
+        return dot(left, 0, right, length);
+    }
+
+    @Override
+    public void scaleAndAdd(double scalar, double[] source, double[] destination, int length) {
+        scaleAndAdd(scalar, source, 0, destination, 0, length);
+    }
+
+    @Override
+    public void timesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        for (int row = 0; row < rows; row++) {
+            destination[row] = dot(matrix, row * columns, vector, columns);
+        }
+    }
+
+    @Override
+    public void transposeTimesInto(double[] matrix, int rows, int columns, double[] vector, double[] destination) {
+        Arrays.fill(destination, 0, columns, 0);
+
+        for (int row = 0; row < rows; row++) {
+            scaleAndAdd(vector[row], matrix, row * columns, destination, 0, columns);
+        }
+    }
+
+    @Override
+    public void addOuterProduct(double[] matrix, int rows, int columns, double scalar, double[] left, double[] right) {
+        for (int row = 0; row < rows; row++) {
+            scaleAndAdd(scalar * left[row], right, 0, matrix, row * columns, columns);
+        }
+    }
+
+    @Override
+    public void multiplyInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        multiplyBlocks(left, inner, 1, rows, inner, right, columns, destination, 1, false);
+    }
+
+    @Override
+    public void multiplyTransposedInto(double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        // Transposing the right operand once lets every row use the broadcast-and-multiply kernel below.
+        var transposed = transposeBuffer.get();
+
+        if (transposed.length < inner * columns) {
+            transposed = new double[inner * columns];
+            transposeBuffer.set(transposed);
+        }
+
+        for (int col = 0; col < columns; col++) {
+            for (int k = 0; k < inner; k++) {
+                transposed[k * columns + col] = right[col * inner + k];
+            }
+        }
+
+        multiplyBlocks(left, inner, 1, rows, inner, transposed, columns, destination, 1, false);
+    }
+
+    @Override
+    public void addTransposeMultiplied(double scalar, double[] left, int rows, int inner, double[] right, int columns, double[] destination) {
+        multiplyBlocks(left, 1, rows, rows, inner, right, columns, destination, scalar, true);
+    }
+
+    // Computes destination (+)= scalar * left * right, where right is row-major (inner x columns) and the layout of left
+    // is given by its strides. The product is built up one tile of right at a time, so the tile stays in L2 while every
+    // block of rows passes over it, and every tile after the first adds to the earlier ones.
+    private static void multiplyBlocks(double[] left, int leftRowStride, int leftInnerStride, int rows, int inner,
+                                       double[] right, int columns, double[] destination, double scalar, boolean accumulate) {
+        for (int fromInner = 0; fromInner < inner; fromInner += INNER_TILE) {
+            var toInner = Math.min(fromInner + INNER_TILE, inner);
+
+            for (int fromColumn = 0; fromColumn < columns; fromColumn += COLUMN_TILE) {
+                var toColumn = Math.min(fromColumn + COLUMN_TILE, columns);
+
+                multiplyTile(left, leftRowStride, leftInnerStride, rows, fromInner, toInner, right, columns,
+                        fromColumn, toColumn, destination, scalar, accumulate || fromInner > 0);
+            }
+        }
+    }
+
+    // Four destination rows by one vector of columns are accumulated in registers over the inner extent of the tile,
+    // so each loaded vector of right is used four times.
+    private static void multiplyTile(double[] left, int leftRowStride, int leftInnerStride, int rows, int fromInner, int toInner,
+                                     double[] right, int columns, int fromColumn, int toColumn,
+                                     double[] destination, double scalar, boolean accumulate) {
+        var bound = fromColumn + SPECIES.loopBound(toColumn - fromColumn);
+        int row = 0;
+
+        for (; row + 3 < rows; row += 4) {
+            int col = fromColumn;
+
+            for (; col < bound; col += SPECIES.length()) {
+                var c0 = DoubleVector.zero(SPECIES);
+                var c1 = DoubleVector.zero(SPECIES);
+                var c2 = DoubleVector.zero(SPECIES);
+                var c3 = DoubleVector.zero(SPECIES);
+
+                for (int k = fromInner; k < toInner; k++) {
+                    var r = DoubleVector.fromArray(SPECIES, right, k * columns + col);
+                    var l = row * leftRowStride + k * leftInnerStride;
+                    c0 = r.fma(DoubleVector.broadcast(SPECIES, left[l]), c0);
+                    c1 = r.fma(DoubleVector.broadcast(SPECIES, left[l + leftRowStride]), c1);
+                    c2 = r.fma(DoubleVector.broadcast(SPECIES, left[l + 2 * leftRowStride]), c2);
+                    c3 = r.fma(DoubleVector.broadcast(SPECIES, left[l + 3 * leftRowStride]), c3);
+                }
+
+                store(c0, destination, row * columns + col, scalar, accumulate);
+                store(c1, destination, (row + 1) * columns + col, scalar, accumulate);
+                store(c2, destination, (row + 2) * columns + col, scalar, accumulate);
+                store(c3, destination, (row + 3) * columns + col, scalar, accumulate);
+            }
+
+            multiplyElements(left, leftRowStride, leftInnerStride, fromInner, toInner, right, columns, destination,
+                    row, row + 4, col, toColumn, scalar, accumulate);
+        }
+
+        multiplyElements(left, leftRowStride, leftInnerStride, fromInner, toInner, right, columns, destination,
+                row, rows, fromColumn, toColumn, scalar, accumulate);
+    }
+
+    private static void multiplyElements(double[] left, int leftRowStride, int leftInnerStride, int fromInner, int toInner,
+                                         double[] right, int columns, double[] destination,
+                                         int fromRow, int toRow, int fromColumn, int toColumn, double scalar, boolean accumulate) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = fromColumn; col < toColumn; col++) {
+                var value = 0.0;
+
+                for (int k = fromInner; k < toInner; k++) {
+                    value += left[row * leftRowStride + k * leftInnerStride] * right[k * columns + col];
+                }
+
+                var index = row * columns + col;
+                destination[index] = accumulate ? destination[index] + scalar * value : scalar * value;
+            }
+        }
+    }
+
+    private static void store(DoubleVector value, double[] destination, int index, double scalar, boolean accumulate) {
+        if (accumulate) {
+            value.fma(DoubleVector.broadcast(SPECIES, scalar), DoubleVector.fromArray(SPECIES, destination, index)).intoArray(destination, index);
+        }
+        else {
+            value.mul(scalar).intoArray(destination, index);
+        }
+    }
+
+    private static double dot(double[] left, int leftOffset, double[] right, int length) {
+        return dot(left, leftOffset, right, 0, length);
+    }
+
+    private static double dot(double[] left, int leftOffset, double[] right, int rightOffset, int length) {
+        var sum = DoubleVector.zero(SPECIES);
+        var bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            var l = DoubleVector.fromArray(SPECIES, left, leftOffset + i);
+            var r = DoubleVector.fromArray(SPECIES, right, rightOffset + i);
+            sum = l.fma(r, sum);
+        }
+
+        var result = sum.reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {
+            result += left[leftOffset + i] * right[rightOffset + i];
+        }
+
+        return result;
+    }
+
+    private static void scaleAndAdd(double scalar, double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        var factor = DoubleVector.broadcast(SPECIES, scalar);
+        var bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            var s = DoubleVector.fromArray(SPECIES, source, sourceOffset + i);
+            var d = DoubleVector.fromArray(SPECIES, destination, destinationOffset + i);
+            s.fma(factor, d).intoArray(destination, destinationOffset + i);
+        }
+
+        for (; i < length; i++) {
+            destination[destinationOffset + i] += scalar * source[sourceOffset + i];
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import math.Matrix;
+import math.Vector;
+import network.activation.ActivationFunction;
+import network.loss.LossFunction;
+import network.metrics.TrainingMetrics;
+import structures.Dataset;
+
+final class Backpropagation implements GradientAccumulator {
+
+    // Larger batches are processed in blocks of this many samples to bound the memory used by the batch buffers.
+    private static final int MAX_BLOCK_SIZE = 256;
+
+    private final int[] layers;
+    private final ActivationFunction activation;
+    private final LossFunction loss;
+    private final LinearAlgebraBackend backend;
+
+    private final Vector[] outputs;
+    private final Vector[] errors;
+    private final Matrix[] deltaWeights;
+    private final Vector[] deltaBiases;
+
+    private double lossSum;
+    private long accumulatedSamples;
+
+    private TrainingMetrics metrics;
+
+    // Indexed by block size, created on first use.
+    private final BlockBuffers[] blockBuffers = new BlockBuffers[MAX_BLOCK_SIZE + 1];
+
+    Backpropagation(int[] layers, ActivationFunction activation, LossFunction loss, LinearAlgebraBackend backend) {
+        this(layers, activation, loss, backend, new Matrix[layers.length - 1], new Vector[layers.length - 1]);
+
+        for (int i = 0; i < deltaWeights.length; i++) {
+            deltaWeights[i] = Matrix.zero(layers[i + 1], layers[i]);
+            deltaBiases[i] = Vector.zero(layers[i + 1]);
+        }
+    }
+
+    private Backpropagation(int[] layers, ActivationFunction activation, LossFunction loss, LinearAlgebraBackend backend,
+                            Matrix[] deltaWeights, Vector[] deltaBiases) {
+        this.layers = layers;
+        this.activation = activation;
+        this.loss = loss;
+        this.backend = backend;
+        this.deltaWeights = deltaWeights;
+        this.deltaBiases = deltaBiases;
+
+        outputs = new Vector[layers.length];
+        errors = new Vector[layers.length];
+
+        for (int layer = 0; layer < layers.length; layer++) {
+            outputs[layer] = Vector.zero(layers[layer]);
+        }
+
+        // Input layer has no error.
+        for (int layer = 1; layer < layers.length; layer++) {
+            errors[layer] = Vector.zero(layers[layer]);
+        }
+    }
+
+    // Accumulates straight into the given weights and biases instead of into separate delta buffers. All errors of a
+    // sample are calculated before the first weight is touched, so every update equals the one from separate buffers.
+    // Calling reset on such an instance would zero the weights themselves.
+    static Backpropagation applyingTo(Matrix[] weights, Vector[] biases, int[] layers, ActivationFunction activation, LossFunction loss,
+                                      LinearAlgebraBackend backend) {
+        return new Backpropagation(layers, activation, loss, backend, weights, biases);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < deltaWeights.length; i++) {
+            deltaWeights[i].setToZero();
+            deltaBiases[i].setToZero();
+        }
+
+        lossSum = 0;
+        accumulatedSamples = 0;
+    }
+
+    @Override
+    public void accumulate(Matrix[] weights, Vector[] biases, Dataset dataset, int[] sampleIndices, int from, int to, double learningRate) {
+        if (to - from == 1) {
+            var sampleIndex = sampleIndices[from];
+            accumulateSample(weights, biases, dataset.getX(sampleIndex), dataset.getY(sampleIndex), learningRate);
+            return;
+        }
+
+        for (int start = from; start < to; start += MAX_BLOCK_SIZE) {
+            accumulateBlock(weights, biases, dataset, sampleIndices, start, Math.min(start + MAX_BLOCK_SIZE, to), learningRate);
+        }
+    }
+
+    @Override
+    public Matrix[] getDeltaWeights() {
+        return deltaWeights;
+    }
+
+    @Override
+    public Vector[] getDeltaBiases() {
+        return deltaBiases;
+    }
+
+    @Override
+    public double getBatchError() {
+        return accumulatedSamples == 0 ? 0 : lossSum / accumulatedSamples;
+    }
+
+    @Override
+    public void setMetrics(TrainingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    void add(Backpropagation other) {
+        for (int i = 0; i < deltaWeights.length; i++) {
+            deltaWeights[i].addInPlace(backend, other.deltaWeights[i]);
+            deltaBiases[i].addInPlace(backend, other.deltaBiases[i]);
+        }
+
+        lossSum += other.lossSum;
+        accumulatedSamples += other.accumulatedSamples;
+    }
+
+    // =============================================================================================
+    //                                     Single sample
+    // =============================================================================================
+
+    private void accumulateSample(Matrix[] weights, Vector[] biases, double[] sample, double[] actual, double learningRate) {
+        var forwardStart = readClock();
+        outputs[0].copyFrom(sample);
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            weights[layer].timesPlusInto(backend, outputs[layer], biases[layer], outputs[layer + 1]);
+            activateHiddenLayer(layer, outputs[layer + 1].getValues());
+        }
+
+        var backpropagationStart = readClock();
+        var prediction = outputs[outputs.length - 1].getValues();
+        loss.activate(activation, prediction, 0, prediction.length);
+        lossSum += loss.calculateErrors(activation, prediction, 0, actual, errors[errors.length - 1].getValues());
+        accumulatedSamples++;
+
+        for (int layer = errors.length - 2; layer >= 1; layer--) {
+            calculateHiddenLayerError(weights, layer);
+        }
+
+        var deltaAccumulationStart = readClock();
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            deltaWeights[layer].addOuterProduct(backend, learningRate, errors[layer + 1], outputs[layer]);
+            deltaBiases[layer].scaleAndAddInPlace(backend, learningRate, errors[layer + 1]);
+        }
+
+        recordPhases(forwardStart, backpropagationStart, deltaAccumulationStart);
+    }
+
+    private void calculateHiddenLayerError(Matrix[] weights, int layer) {
+        var neuronErrors = errors[layer];
+        weights[layer].transposeTimesInto(backend, errors[layer + 1], neuronErrors);
+        activation.derivativeFromOutput(outputs[layer].getValues(), 0, neuronErrors.size(), neuronErrors.getValues());
+    }
+
+    // =============================================================================================
+    //                                     Block of samples
+    // =============================================================================================
+
+    private void accumulateBlock(Matrix[] weights, Vector[] biases, Dataset dataset, int[] sampleIndices, int from, int to, double learningRate) {
+        var forwardStart = readClock();
+        var buffers = getBlockBuffers(to - from);
+        var outputs = buffers.outputs;
+        var errors = buffers.errors;
+
+        // Every sample of the block becomes one row, so each layer is a single matrix-matrix product.
+        for (int row = 0; row < to - from; row++) {
+            outputs[0].setRow(row, dataset.getX(sampleIndices[from + row]));
+        }
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            outputs[layer].timesTransposePlusInto(backend, weights[layer], biases[layer], outputs[layer + 1]);
+            activateHiddenLayer(layer, outputs[layer + 1].getValues());
+        }
+
+        var backpropagationStart = readClock();
+        var predictions = outputs[outputs.length - 1].getValues();
+        var outputErrors = errors[errors.length - 1].getValues();
+        var outputCount = layers[layers.length - 1];
+
+        for (int row = 0; row < to - from; row++) {
+            var offset = row * outputCount;
+            loss.activate(activation, predictions, offset, outputCount);
+            lossSum += loss.calculateErrors(activation, predictions, offset, dataset.getY(sampleIndices[from + row]), outputErrors);
+        }
+
+        accumulatedSamples += to - from;
+
+        for (int layer = errors.length - 2; layer >= 1; layer--) {
+            var layerErrors = errors[layer].getValues();
+            errors[layer + 1].timesInto(backend, weights[layer], errors[layer]);
+            activation.derivativeFromOutput(outputs[layer].getValues(), 0, layerErrors.length, layerErrors);
+        }
+
+        var deltaAccumulationStart = readClock();
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            deltaWeights[layer].addTransposeTimes(backend, learningRate, errors[layer + 1], outputs[layer]);
+            errors[layer + 1].addColumnSumsTo(learningRate, deltaBiases[layer]);
+        }
+
+        recordPhases(forwardStart, backpropagationStart, deltaAccumulationStart);
+    }
+
+    // =============================================================================================
+    //                                       Metrics
+    // =============================================================================================
+
+    // The clock is only read while metrics are collected, tiny networks would notice it otherwise.
+    private long readClock() {
+        return metrics != null ? System.nanoTime() : 0;
+    }
+
+    private void recordPhases(long forwardStart, long backpropagationStart, long deltaAccumulationStart) {
+        if (metrics == null) return;
+
+        metrics.addForwardNanos(backpropagationStart - forwardStart);
+        metrics.addBackpropagationNanos(deltaAccumulationStart - backpropagationStart);
+        metrics.addDeltaAccumulationNanos(System.nanoTime() - deltaAccumulationStart);
+    }
+
+    // Activates all the given outputs, a whole block at once. The output layer is left linear, its outputs are
+    // produced by the loss function together with the errors.
+    private void activateHiddenLayer(int layer, double[] values) {
+        if (layer < layers.length - 2) {
+            activation.applyInPlace(values, 0, values.length);
+        }
+    }
+
+    private BlockBuffers getBlockBuffers(int blockSize) {
+        if (blockBuffers[blockSize] == null) {
+            blockBuffers[blockSize] = new BlockBuffers(layers, blockSize);
+        }
+
+        return blockBuffers[blockSize];
+    }
+
+    private static final class BlockBuffers {
+        private final Matrix[] outputs;
+        private final Matrix[] errors;
+
+        private BlockBuffers(int[] layers, int blockSize) {
+            outputs = new Matrix[layers.length];
+            errors = new Matrix[layers.length];
+
+            for (int layer = 0; layer < layers.length; layer++) {
+                outputs[layer] = Matrix.zero(blockSize, layers[layer]);
+            }
+
+            for (int layer = 1; layer < layers.length; layer++) {
+                errors[layer] = Matrix.zero(blockSize, layers[layer]);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package network;
+
+import network.io.CheckpointFile;
+import network.optimizers.Optimizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Saves the state of a running fit in the background, every given number of iterations or seconds, whichever comes
+// first. The fitting thread only copies the parameters and the optimizer state into one of two buffers, while a single
+// writer thread writes out the other one. If both buffers are still busy, the checkpoint is skipped rather than
+// making the fitting thread wait for the disk.
+public final class Checkpointer {
+
+    private static final int BUFFER_COUNT = 2;
+
+    private final Path path;
+    private final int interval;
+    private final long periodNanos;
+
+    private final BlockingQueue<Snapshot> freeSnapshots = new ArrayBlockingQueue<>(BUFFER_COUNT);
+    private ExecutorService writer;
+
+    private String optimizerName;
+    private double[] hyperparameters;
+    private int lastIteration;
+    private long lastTime;
+    private volatile int writtenCheckpoints;
+    private volatile int skippedCheckpoints;
+
+    // Zero disables the corresponding trigger, but at least one of them must be enabled.
+    public Checkpointer(Path path, int interval, double periodSeconds) {
+        if (interval < 0)
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative.");
+
+        if (periodSeconds < 0)
+            throw new IllegalArgumentException("Checkpoint period cannot be negative.");
+
+        if (interval == 0 && periodSeconds == 0)
+            throw new IllegalArgumentException("Either the checkpoint interval or the period must be positive.");
+
+        this.path = path;
+        this.interval = interval;
+        this.periodNanos = (long) (periodSeconds * 1e9);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getWrittenCheckpoints() {
+        return writtenCheckpoints;
+    }
+
+    public int getSkippedCheckpoints() {
+        return skippedCheckpoints;
+    }
+
+    void start(int iteration, Optimizer optimizer) {
+        optimizerName = optimizer.getName();
+        hyperparameters = optimizer.getHyperparameters().clone();
+        lastIteration = iteration;
+        lastTime = System.nanoTime();
+        writer = Executors.newSingleThreadExecutor(Checkpointer::createThread);
+
+        if (freeSnapshots.isEmpty()) {
+            for (int i = 0; i < BUFFER_COUNT; i++) {
+                freeSnapshots.add(new Snapshot());
+            }
+        }
+    }
+
+    void update(int iteration, double[][] parameters, double[][] optimizerState) {
+        var isIntervalDue = interval > 0 && iteration - lastIteration >= interval;
+        var isPeriodDue = periodNanos > 0 && System.nanoTime() - lastTime >= periodNanos;
+        if (!isIntervalDue && !isPeriodDue) return;
+
+        lastIteration = iteration;
+        lastTime = System.nanoTime();
+
+        var snapshot = freeSnapshots.poll();
+
+        if (snapshot == null) {
+            skippedCheckpoints++;
+            return;
+        }
+
+        snapshot.copyFrom(iteration, parameters, optimizerState);
+        writer.execute(() -> write(snapshot));
+    }
+
+    // Waits for the checkpoints that are still being written.
+    void finish() {
+        writer.shutdown();
+
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(Snapshot snapshot) {
+        try {
+            CheckpointFile.write(path, snapshot.iteration, optimizerName, hyperparameters, snapshot.parameters, snapshot.optimizerState);
+            writtenCheckpoints++;
+        } catch (IOException exception) {
+            System.err.println("Could not write checkpoint '" + path + "': " + exception.getMessage());
+        } finally {
+            freeSnapshots.add(snapshot);
+        }
+    }
+
+    private static Thread createThread(Runnable runnable) {
+        var thread = new Thread(runnable, "Checkpoint writer");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class Snapshot {
+        private int iteration;
+        private double[][] parameters = new double[0][];
+        private double[][] optimizerState = new double[0][];
+
+        void copyFrom(int iteration, double[][] parameters, double[][] optimizerState) {
+            this.iteration = iteration;
+            this.parameters = copy(parameters, this.parameters);
+            this.optimizerState = copy(optimizerState, this.optimizerState);
+        }
+
+        // Reuses the destination arrays whenever their shape still fits.
+        private static double[][] copy(double[][] source, double[][] destination) {
+            if (destination.length != source.length) {
+                destination = new double[source.length][];
+            }
+
+            for (int i = 0; i < source.length; i++) {
+                if (destination[i] == null || destination[i].length != source[i].length) {
+                    destination[i] = new double[source[i].length];
+                }
+
+                System.arraycopy(source[i], 0, destination[i], 0, source[i].length);
+            }
+
+            return destination;
+        }
+    }
+}
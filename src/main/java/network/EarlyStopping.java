@@ -0,0 +1,59 @@
+package network;
+
+import structures.Dataset;
+
+// Stops fitting once the error of a held-out validation dataset has not improved for the given number of iterations,
+// and then puts back the weights and biases that had the lowest validation error.
+public class EarlyStopping {
+
+    private final Dataset validationDataset;
+    private final int patience;
+    private final int interval;
+
+    private double[][] bestParameters;
+    private double bestError;
+    private int bestIteration;
+
+    public EarlyStopping(Dataset validationDataset, int patience, int interval) {
+        if (patience < 1)
+            throw new IllegalArgumentException("Patience must be at least 1.");
+
+        if (interval < 1)
+            throw new IllegalArgumentException("Interval must be at least 1.");
+
+        this.validationDataset = validationDataset;
+        this.patience = patience;
+        this.interval = interval;
+    }
+
+    void reset(double[][] parameters) {
+        bestParameters = Parameters.createZeroed(parameters);
+        Parameters.copy(parameters, bestParameters);
+        bestError = Double.POSITIVE_INFINITY;
+        bestIteration = 0;
+    }
+
+    // Validation error is only measured every interval iterations, as it costs a pass over the whole validation dataset.
+    boolean shouldStop(NeuralNetwork network, double[][] parameters, int iteration) {
+        if ((iteration - 1) % interval != 0) return false;
+
+        var error = network.calculateError(validationDataset);
+
+        if (error < bestError) {
+            bestError = error;
+            bestIteration = iteration;
+            Parameters.copy(parameters, bestParameters);
+            return false;
+        }
+
+        return iteration - bestIteration >= patience;
+    }
+
+    void restoreBest(double[][] parameters) {
+        Parameters.copy(bestParameters, parameters);
+    }
+
+    public double getBestError() {
+        return bestError;
+    }
+}
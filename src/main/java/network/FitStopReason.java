@@ -0,0 +1,19 @@
+package network;
+
+public enum FitStopReason {
+    MIN_ERROR_REACHED("Minimum acceptable error reached"),
+    MAX_ITERATIONS_REACHED("Maximum number of iterations reached"),
+    NO_VALIDATION_IMPROVEMENT("Validation error stopped improving"),
+    STOPPED_BY_USER("Stopped by user");
+
+    private final String description;
+
+    FitStopReason(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
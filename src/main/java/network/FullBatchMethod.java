@@ -0,0 +1,8 @@
+package network;
+
+public enum FullBatchMethod {
+    // Plain iterations through the configured optimizer.
+    OPTIMIZER,
+    LBFGS,
+    RPROP
+}
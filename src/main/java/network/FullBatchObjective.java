@@ -0,0 +1,62 @@
+package network;
+
+import math.Matrix;
+import math.Vector;
+import structures.Dataset;
+
+// Error of the whole dataset as a function of all the weights and biases, evaluated through backpropagation.
+final class FullBatchObjective {
+
+    private final Matrix[] weights;
+    private final Vector[] biases;
+    private final GradientAccumulator accumulator;
+    private final Dataset dataset;
+    private final int[] sampleIndices;
+
+    private final double[][] parameters;
+    private final double[][] directions;
+
+    private long evaluations;
+
+    FullBatchObjective(Matrix[] weights, Vector[] biases, GradientAccumulator accumulator, Dataset dataset) {
+        this.weights = weights;
+        this.biases = biases;
+        this.accumulator = accumulator;
+        this.dataset = dataset;
+
+        sampleIndices = new int[dataset.size()];
+
+        for (int i = 0; i < sampleIndices.length; i++) {
+            sampleIndices[i] = i;
+        }
+
+        parameters = Parameters.getValuesOf(weights, biases);
+        directions = Parameters.getValuesOf(accumulator.getDeltaWeights(), accumulator.getDeltaBiases());
+    }
+
+    // Returns the error at the current parameters and leaves the matching directions behind.
+    double evaluate() {
+        accumulator.reset();
+        accumulator.accumulate(weights, biases, dataset, sampleIndices, 0, sampleIndices.length, 1);
+        evaluations++;
+        return accumulator.getBatchError();
+    }
+
+    // Backing arrays of the weights and biases, writing to them moves the network.
+    double[][] getParameters() {
+        return parameters;
+    }
+
+    // Negative gradient of the summed (not averaged) sample errors at the last evaluated parameters.
+    double[][] getDirections() {
+        return directions;
+    }
+
+    int getSampleCount() {
+        return sampleIndices.length;
+    }
+
+    long getEvaluations() {
+        return evaluations;
+    }
+}
@@ -0,0 +1,10 @@
+package network;
+
+interface FullBatchTrainer {
+
+    // Evaluates the starting point and returns its error.
+    double initialize();
+
+    // Moves the parameters downhill and returns the error where they end up.
+    double step();
+}
@@ -0,0 +1,23 @@
+package network;
+
+import math.Matrix;
+import math.Vector;
+import network.metrics.TrainingMetrics;
+import structures.Dataset;
+
+interface GradientAccumulator extends AutoCloseable {
+    void reset();
+    void accumulate(Matrix[] weights, Vector[] biases, Dataset dataset, int[] sampleIndices, int from, int to, double learningRate);
+    Matrix[] getDeltaWeights();
+    Vector[] getDeltaBiases();
+
+    // Error of the samples accumulated since the last reset, measured before the weights were updated.
+    double getBatchError();
+
+    // Null stops timing the phases of accumulation.
+    void setMetrics(TrainingMetrics metrics);
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,66 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import math.Matrix;
+import math.Vector;
+import network.activation.ActivationFunction;
+import network.loss.LossFunction;
+import network.metrics.TrainingMetrics;
+import structures.Dataset;
+
+import java.util.SplittableRandom;
+
+final class HogwildWorker implements Runnable {
+
+    private final Backpropagation backpropagation;
+    private final Matrix[] weights;
+    private final Vector[] biases;
+    private final Dataset dataset;
+    private final SplittableRandom random;
+    private final double learningRate;
+    private final long maxSamples;
+
+    private final int[] sampleIndex = new int[1];
+
+    private volatile boolean isRunning = true;
+    private volatile long processedSamples;
+
+    HogwildWorker(Matrix[] weights, Vector[] biases, int[] layers, ActivationFunction activation, LossFunction loss, LinearAlgebraBackend backend,
+                  Dataset dataset, SplittableRandom random, double learningRate, long maxSamples) {
+        this.backpropagation = Backpropagation.applyingTo(weights, biases, layers, activation, loss, backend);
+        this.weights = weights;
+        this.biases = biases;
+        this.dataset = dataset;
+        this.random = random;
+        this.learningRate = learningRate;
+        this.maxSamples = maxSamples;
+    }
+
+    @Override
+    public void run() {
+        while (isRunning && processedSamples < maxSamples) {
+            sampleIndex[0] = random.nextInt(dataset.size());
+            backpropagation.accumulate(weights, biases, dataset, sampleIndex, 0, 1, learningRate);
+            processedSamples++;
+        }
+
+        isRunning = false;
+    }
+
+    // Every update is applied straight to the shared weights, so applying it counts as accumulating the deltas.
+    void setMetrics(TrainingMetrics metrics) {
+        backpropagation.setMetrics(metrics);
+    }
+
+    void stop() {
+        isRunning = false;
+    }
+
+    boolean isRunning() {
+        return isRunning;
+    }
+
+    long getProcessedSamples() {
+        return processedSamples;
+    }
+}
@@ -0,0 +1,59 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import network.activation.ActivationFunction;
+import network.loss.LossFunction;
+import structures.Dataset;
+
+// Immutable copy of a network's weights and biases that is used only for predicting. Every thread predicts through its
+// own session, so any number of threads can use the same model at the same time.
+public final class InferenceModel {
+
+    private final int[] layers;
+    private final double[][] weights;
+    private final double[][] biases;
+    private final ActivationFunction activation;
+    private final LossFunction loss;
+    private final LinearAlgebraBackend backend;
+
+    private final ThreadLocal<InferenceSession> sessions = ThreadLocal.withInitial(this::newSession);
+
+    InferenceModel(int[] layers, double[][] weights, double[][] biases, ActivationFunction activation, LossFunction loss,
+                   LinearAlgebraBackend backend) {
+        this.layers = layers;
+        this.weights = weights;
+        this.biases = biases;
+        this.activation = activation;
+        this.loss = loss;
+        this.backend = backend;
+    }
+
+    public InferenceSession newSession() {
+        return new InferenceSession(layers, weights, biases, activation, loss, backend);
+    }
+
+    // Convenience for occasional predictions, the returned array is a new copy on every call.
+    public double[] predict(double[] sample) {
+        return sessions.get().predict(sample).clone();
+    }
+
+    public double[][] predictBatch(double[][] samples) {
+        return sessions.get().predictBatch(samples);
+    }
+
+    public double calculateError(Dataset dataset) {
+        return sessions.get().calculateError(dataset);
+    }
+
+    public int[] getLayers() {
+        return layers.clone();
+    }
+
+    public int getInputNeuronCount() {
+        return layers[0];
+    }
+
+    public int getOutputNeuronCount() {
+        return layers[layers.length - 1];
+    }
+}
@@ -0,0 +1,184 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import network.activation.ActivationFunction;
+import network.loss.LossFunction;
+import structures.Dataset;
+
+import java.util.Arrays;
+
+// Scratch buffers for predicting with an inference model. A session must not be shared between threads.
+public final class InferenceSession {
+
+    // Batches are processed in blocks of this many samples to bound the memory used by the block buffers.
+    private static final int MAX_BLOCK_SIZE = 256;
+
+    private final int[] layers;
+    private final double[][] weights;
+    private final double[][] biases;
+    private final ActivationFunction activation;
+    private final LossFunction loss;
+    private final LinearAlgebraBackend backend;
+
+    private final double[][] outputs;
+
+    // Row-major outputs of every layer for a whole block, created on the first batch prediction.
+    private double[][] blockOutputs;
+
+    InferenceSession(int[] layers, double[][] weights, double[][] biases, ActivationFunction activation, LossFunction loss,
+                     LinearAlgebraBackend backend) {
+        this.layers = layers;
+        this.weights = weights;
+        this.biases = biases;
+        this.activation = activation;
+        this.loss = loss;
+        this.backend = backend;
+
+        outputs = new double[layers.length][];
+
+        for (int layer = 0; layer < layers.length; layer++) {
+            outputs[layer] = new double[layers[layer]];
+        }
+    }
+
+    // Returns the session's own output buffer, which is overwritten by the next prediction.
+    public double[] predict(double[] sample) {
+        if (sample.length != layers[0])
+            throw new IllegalArgumentException("Expected " + layers[0] + " values, but got " + sample.length + ".");
+
+        System.arraycopy(sample, 0, outputs[0], 0, sample.length);
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            var output = outputs[layer + 1];
+            var bias = biases[layer];
+            backend.timesInto(weights[layer], layers[layer + 1], layers[layer], outputs[layer], output);
+
+            for (int i = 0; i < output.length; i++) {
+                output[i] += bias[i];
+            }
+
+            activate(layer, output, 1, output.length);
+        }
+
+        return outputs[outputs.length - 1];
+    }
+
+    public void predict(double[] sample, double[] destination) {
+        var prediction = predict(sample);
+        System.arraycopy(prediction, 0, destination, 0, prediction.length);
+    }
+
+    // Samples are given row-major, one sample after another, and so are the predictions written to the destination.
+    public void predictBatch(double[] samples, int count, double[] destination) {
+        var inputs = layers[0];
+        var outputCount = layers[layers.length - 1];
+
+        if (samples.length < count * inputs)
+            throw new IllegalArgumentException("Expected at least " + count * inputs + " values, but got " + samples.length + ".");
+
+        if (destination.length < count * outputCount)
+            throw new IllegalArgumentException("Destination must hold at least " + count * outputCount + " values.");
+
+        for (int start = 0; start < count; start += MAX_BLOCK_SIZE) {
+            var blockSize = Math.min(MAX_BLOCK_SIZE, count - start);
+            System.arraycopy(samples, start * inputs, getBlockOutputs()[0], 0, blockSize * inputs);
+
+            var predictions = predictBlock(blockSize);
+            System.arraycopy(predictions, 0, destination, start * outputCount, blockSize * outputCount);
+        }
+    }
+
+    public double[][] predictBatch(double[][] samples) {
+        var predictions = new double[samples.length][];
+        var outputCount = layers[layers.length - 1];
+
+        for (int start = 0; start < samples.length; start += MAX_BLOCK_SIZE) {
+            var blockSize = Math.min(MAX_BLOCK_SIZE, samples.length - start);
+
+            for (int row = 0; row < blockSize; row++) {
+                setBlockInput(row, samples[start + row]);
+            }
+
+            var blockPredictions = predictBlock(blockSize);
+
+            for (int row = 0; row < blockSize; row++) {
+                predictions[start + row] = Arrays.copyOfRange(blockPredictions, row * outputCount, (row + 1) * outputCount);
+            }
+        }
+
+        return predictions;
+    }
+
+    public double calculateError(Dataset dataset) {
+        var error = 0.0;
+        var N = dataset.size();
+        var outputCount = layers[layers.length - 1];
+
+        for (int start = 0; start < N; start += MAX_BLOCK_SIZE) {
+            var blockSize = Math.min(MAX_BLOCK_SIZE, N - start);
+
+            for (int row = 0; row < blockSize; row++) {
+                setBlockInput(row, dataset.getX(start + row));
+            }
+
+            var predictions = predictBlock(blockSize);
+
+            for (int row = 0; row < blockSize; row++) {
+                error += loss.calculateLoss(predictions, row * outputCount, dataset.getY(start + row));
+            }
+        }
+
+        return error / N;
+    }
+
+    private void setBlockInput(int row, double[] sample) {
+        if (sample.length != layers[0])
+            throw new IllegalArgumentException("Expected " + layers[0] + " values, but got " + sample.length + ".");
+
+        System.arraycopy(sample, 0, getBlockOutputs()[0], row * layers[0], layers[0]);
+    }
+
+    // Every sample of the block is one row, so each layer is a single matrix-matrix product.
+    private double[] predictBlock(int blockSize) {
+        for (int layer = 0; layer < weights.length; layer++) {
+            var columns = layers[layer + 1];
+            var output = blockOutputs[layer + 1];
+            var bias = biases[layer];
+            backend.multiplyTransposedInto(blockOutputs[layer], blockSize, layers[layer], weights[layer], columns, output);
+
+            for (int row = 0; row < blockSize; row++) {
+                for (int col = 0, offset = row * columns; col < columns; col++) {
+                    output[offset + col] += bias[col];
+                }
+            }
+
+            activate(layer, output, blockSize, columns);
+        }
+
+        return blockOutputs[blockOutputs.length - 1];
+    }
+
+    // Hidden layers are activated in one pass over all the rows, the loss function decides what the output layer produces.
+    private void activate(int layer, double[] values, int rows, int columns) {
+        if (layer < weights.length - 1) {
+            activation.applyInPlace(values, 0, rows * columns);
+            return;
+        }
+
+        for (int row = 0; row < rows; row++) {
+            loss.activate(activation, values, row * columns, columns);
+        }
+    }
+
+    private double[][] getBlockOutputs() {
+        if (blockOutputs == null) {
+            blockOutputs = new double[layers.length][];
+
+            for (int layer = 0; layer < layers.length; layer++) {
+                blockOutputs[layer] = new double[MAX_BLOCK_SIZE * layers[layer]];
+            }
+        }
+
+        return blockOutputs;
+    }
+}
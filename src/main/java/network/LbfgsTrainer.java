@@ -0,0 +1,143 @@
+package network;
+
+// Limited memory BFGS: the last few parameter and gradient changes approximate the inverse Hessian, which turns the
+// gradient into a much better step than a fixed learning rate. Step sizes come from a backtracking line search.
+final class LbfgsTrainer implements FullBatchTrainer {
+
+    private static final int HISTORY_SIZE = 10;
+    private static final int MAX_LINE_SEARCH_STEPS = 20;
+    private static final double SUFFICIENT_DECREASE = 1e-4;
+    private static final double MIN_CURVATURE = 1e-10;
+
+    private final FullBatchObjective objective;
+    private final double[][] parameters;
+
+    private final double[][] gradient;
+    private final double[][] previousGradient;
+    private final double[][] previousParameters;
+    private final double[][] direction;
+
+    // Ring buffers of the parameter changes (s) and gradient changes (y).
+    private final double[][][] parameterChanges = new double[HISTORY_SIZE][][];
+    private final double[][][] gradientChanges = new double[HISTORY_SIZE][][];
+    private final double[] inverseCurvatures = new double[HISTORY_SIZE];
+    private final double[] coefficients = new double[HISTORY_SIZE];
+    private int historyCount;
+    private int newest = -1;
+
+    private double error;
+
+    LbfgsTrainer(FullBatchObjective objective) {
+        this.objective = objective;
+        parameters = objective.getParameters();
+
+        gradient = Parameters.createZeroed(parameters);
+        previousGradient = Parameters.createZeroed(parameters);
+        previousParameters = Parameters.createZeroed(parameters);
+        direction = Parameters.createZeroed(parameters);
+
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            parameterChanges[i] = Parameters.createZeroed(parameters);
+            gradientChanges[i] = Parameters.createZeroed(parameters);
+        }
+    }
+
+    @Override
+    public double initialize() {
+        error = objective.evaluate();
+        readGradient();
+        return error;
+    }
+
+    @Override
+    public double step() {
+        calculateDirection();
+        var slope = Parameters.dot(gradient, direction);
+
+        // The approximation went bad, so start over from steepest descent.
+        if (slope >= 0) {
+            historyCount = 0;
+            calculateDirection();
+            slope = Parameters.dot(gradient, direction);
+        }
+
+        var stepSize = historyCount == 0 ? Math.min(1, 1 / Math.sqrt(Parameters.dot(gradient, gradient))) : 1;
+        var previousError = error;
+        Parameters.copy(parameters, previousParameters);
+        Parameters.copy(gradient, previousGradient);
+
+        for (int i = 0; i < MAX_LINE_SEARCH_STEPS; i++) {
+            Parameters.copy(previousParameters, parameters);
+            Parameters.scaleAndAdd(stepSize, direction, parameters);
+            error = objective.evaluate();
+
+            if (error <= previousError + SUFFICIENT_DECREASE * stepSize * slope) {
+                readGradient();
+                remember();
+                return error;
+            }
+
+            stepSize /= 2;
+        }
+
+        // No step along the direction decreased the error, so stay put and forget the misleading history.
+        Parameters.copy(previousParameters, parameters);
+        Parameters.copy(previousGradient, gradient);
+        historyCount = 0;
+        error = previousError;
+        return error;
+    }
+
+    // Two-loop recursion, direction = -H * gradient.
+    private void calculateDirection() {
+        Parameters.copy(gradient, direction);
+
+        for (int i = 0, index = newest; i < historyCount; i++, index = previous(index)) {
+            coefficients[index] = inverseCurvatures[index] * Parameters.dot(parameterChanges[index], direction);
+            Parameters.scaleAndAdd(-coefficients[index], gradientChanges[index], direction);
+        }
+
+        if (historyCount > 0) {
+            var y = gradientChanges[newest];
+            Parameters.scale(1 / (inverseCurvatures[newest] * Parameters.dot(y, y)), direction, direction);
+        }
+
+        for (int i = 0, index = oldest(); i < historyCount; i++, index = (index + 1) % HISTORY_SIZE) {
+            var beta = inverseCurvatures[index] * Parameters.dot(gradientChanges[index], direction);
+            Parameters.scaleAndAdd(coefficients[index] - beta, parameterChanges[index], direction);
+        }
+
+        Parameters.scale(-1, direction, direction);
+    }
+
+    private void remember() {
+        var next = (newest + 1) % HISTORY_SIZE;
+        Parameters.subtract(parameters, previousParameters, parameterChanges[next]);
+        Parameters.subtract(gradient, previousGradient, gradientChanges[next]);
+
+        var curvature = Parameters.dot(parameterChanges[next], gradientChanges[next]);
+
+        if (curvature <= MIN_CURVATURE) {
+            // The rejected pair overwrote the oldest one when the history was full.
+            if (historyCount == HISTORY_SIZE) historyCount--;
+            return;
+        }
+
+        inverseCurvatures[next] = 1 / curvature;
+        newest = next;
+        historyCount = Math.min(historyCount + 1, HISTORY_SIZE);
+    }
+
+    // Gradient of the average sample error, the objective hands out the negative gradient of their sum.
+    private void readGradient() {
+        Parameters.scale(-1.0 / objective.getSampleCount(), objective.getDirections(), gradient);
+    }
+
+    private int previous(int index) {
+        return (index + HISTORY_SIZE - 1) % HISTORY_SIZE;
+    }
+
+    private int oldest() {
+        return (newest - historyCount + 1 + HISTORY_SIZE) % HISTORY_SIZE;
+    }
+}
@@ -1,215 +1,517 @@
 package network;
 
+import math.LinearAlgebraBackend;
+import math.LinearAlgebraBackends;
 import math.Matrix;
 import math.Vector;
 import network.activation.ActivationFunction;
+import network.activation.Approximation;
+import network.evaluation.ErrorEvaluator;
+import network.evaluation.FullErrorEvaluator;
 import network.initializers.WeightInitializer;
+import network.io.CheckpointFile;
+import network.loss.LossFunction;
+import network.loss.MeanSquaredError;
+import network.metrics.TrainingMetrics;
+import network.optimizers.GradientDescentOptimizer;
+import network.optimizers.Optimizer;
+import network.samplers.EpochShuffleSampler;
+import network.samplers.Sampler;
+import network.schedules.ConstantSchedule;
+import network.schedules.LearningRateSchedule;
 import structures.Dataset;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class NeuralNetwork {
 
+    // Batches are fed forward in blocks of this many samples to bound the memory used by the block buffers.
+    private static final int MAX_BLOCK_SIZE = 256;
+
     private final Matrix[] weights;
-    private final Matrix[] deltaWeights;
     private final Vector[] biases;
-    private final Vector[] deltaBiases;
     private final Vector[] outputs;
-    private final Vector[] errors;
 
-    private final ActivationFunction function;
+    // Indexed by block size, created on first use.
+    private final Matrix[][] blockOutputs = new Matrix[MAX_BLOCK_SIZE + 1][];
+
+    private final ActivationFunction activation;
+    private final LossFunction loss;
     private final int[] layers;
 
+    // Only ever replaced by the fitting thread, any other thread reads the weights through it.
+    private final AtomicReference<WeightSnapshot> snapshot = new AtomicReference<>();
+
     private double learningRate = 0.01;
     private double minAcceptableError = 0.05;
     private int maxIterations = Integer.MAX_VALUE;
     private int batchSize = 1;
+    private int parallelism = 1;
+    private LinearAlgebraBackend backend = LinearAlgebraBackends.getDefault();
+    private ErrorEvaluator errorEvaluator = new FullErrorEvaluator(1);
+    private Sampler sampler = new EpochShuffleSampler();
+    private SplittableRandom random = new SplittableRandom();
+    private Optimizer optimizer = new GradientDescentOptimizer();
+    private FullBatchMethod fullBatchMethod = FullBatchMethod.OPTIMIZER;
+    private boolean isAsynchronous;
+    private LearningRateSchedule learningRateSchedule = new ConstantSchedule();
+    private EarlyStopping earlyStopping;
+    private Checkpointer checkpointer;
+    private CheckpointFile resumePoint;
+    private int snapshotInterval;
+    private TrainingMetrics metrics;
+    private int nextSnapshotIteration;
+    private int lastIteration;
 
     private boolean isBeingFitted;
+    private FitStopReason stopReason;
 
     private final List<NeuralNetworkFitStartListener> fitStartListeners = new ArrayList<>();
     private final List<NeuralNetworkFitUpdateListener> fitUpdateListeners = new ArrayList<>();
     private final List<NeuralNetworkFitFinishListener> fitFinishListeners = new ArrayList<>();
 
     public NeuralNetwork(WeightInitializer initializer, ActivationFunction function, int... layers) {
-        this.function = function;
+        this(initializer, function, new MeanSquaredError(), layers);
+    }
+
+    public NeuralNetwork(WeightInitializer initializer, ActivationFunction function, LossFunction loss, int... layers) {
+        this.activation = function;
+        this.loss = loss;
         this.layers = layers;
 
         outputs = new Vector[layers.length];
-        errors = new Vector[layers.length];
         weights = new Matrix[layers.length - 1];
         biases = new Vector[layers.length - 1];
-        deltaWeights = new Matrix[layers.length - 1];
-        deltaBiases = new Vector[layers.length - 1];
 
         initializer.initializeWeights(weights, layers);
         initializer.initializeBiases(biases, layers);
+
+        for (int layer = 0; layer < layers.length; layer++) {
+            outputs[layer] = Vector.zero(layers[layer]);
+        }
+
+        snapshot.set(createSnapshot(0, 0));
     }
 
     public void fit(Dataset dataset) {
+        // Rejected before anything starts, so the checkpoint is still there to be resumed with the right settings.
+        if (resumePoint != null && (isAsynchronous || fullBatchMethod != FullBatchMethod.OPTIMIZER))
+            throw new IllegalStateException("Only mini-batch fitting with an optimizer can resume from a checkpoint.");
+
         isBeingFitted = true;
+        stopReason = null;
+        nextSnapshotIteration = 0;
         fitStartListeners.forEach(NeuralNetworkFitStartListener::onFitStart);
 
-        int i, sampleIndex = 0;
+        if (isAsynchronous) {
+            stopReason = fitAsynchronously(dataset);
+        } else if (fullBatchMethod != FullBatchMethod.OPTIMIZER) {
+            stopReason = fitFullBatch(dataset);
+        } else {
+            stopReason = fitSynchronously(dataset);
+        }
 
-        for (i = 1; i <= maxIterations && isBeingFitted; i++) {
-            dataset.shuffle();
-            resetDeltaWeightsAndBiases();
+        if (metrics != null) metrics.finish();
 
-            for (int j = 0; j < batchSize; j++) {
-                var actual = dataset.getY(sampleIndex);
-                var prediction = predict(dataset.getX(sampleIndex));
-                calculateOutputLayerError(actual, prediction);
+        // Early stopping may have restored older weights after the last update, so the final snapshot is always taken.
+        publishSnapshot(lastIteration);
 
-                for (int layer = errors.length - 2; layer >= 1; layer--) {
-                    calculateHiddenLayerError(layer);
-                }
+        isBeingFitted = false;
+        fitFinishListeners.forEach(NeuralNetworkFitFinishListener::onFitFinish);
+    }
+
+    private FitStopReason fitSynchronously(Dataset dataset) {
+        var startTime = System.nanoTime();
+
+        var evaluator = errorEvaluator;
+        var schedule = learningRateSchedule;
+        var earlyStopping = this.earlyStopping;
+        var checkpointer = this.checkpointer;
+        var resumePoint = this.resumePoint;
+        this.resumePoint = null;
+
+        try (var accumulator = createGradientAccumulator(); evaluator) {
+            var sampleIndices = new int[batchSize];
+            var parameters = Parameters.getValuesOf(weights, biases);
+            var directions = Parameters.getValuesOf(accumulator.getDeltaWeights(), accumulator.getDeltaBiases());
+
+            var error = Double.NaN;
+            var firstIteration = 1;
+
+            sampler.reset(dataset.size());
+            optimizer.initialize(parameters, backend);
+            var optimizerState = optimizer.getState();
+
+            if (resumePoint != null) {
+                checkSameOptimizer(resumePoint, optimizerState);
+
+                Parameters.copy(resumePoint.getParameters(), parameters);
+                Parameters.copy(resumePoint.getOptimizerState(), optimizerState);
+                firstIteration = resumePoint.getIteration() + 1;
+            }
 
-                for (int layer = 0; layer < layers.length - 1; layer++) {
-                    calculateDeltaWeights(layer);
-                    calculateDeltaBiases(layer);
+            schedule.reset();
+            if (earlyStopping != null) earlyStopping.reset(parameters);
+            if (checkpointer != null) checkpointer.start(firstIteration - 1, optimizer);
+            if (metrics != null) metrics.start(firstIteration - 1);
+
+            try {
+                for (int i = firstIteration; i <= maxIterations; i++) {
+                    if (!isBeingFitted) return FitStopReason.STOPPED_BY_USER;
+
+                    accumulator.reset();
+                    sampler.sample(sampleIndices, batchSize);
+                    // Deltas are left unscaled, applying the learning rate is up to the optimizer.
+                    accumulator.accumulate(weights, biases, dataset, sampleIndices, 0, batchSize, 1);
+
+                    var updateStart = System.nanoTime();
+                    var rate = schedule.getLearningRate(learningRate, i, error);
+                    optimizer.update(parameters, directions, rate);
+
+                    var evaluationStart = System.nanoTime();
+                    error = evaluator.evaluate(this, dataset, i, accumulator.getBatchError());
+                    var evaluationEnd = System.nanoTime();
+
+                    var samples = (long) (i - firstIteration + 1) * batchSize;
+                    if (metrics != null) {
+                        metrics.addWeightUpdateNanos(evaluationStart - updateStart);
+                        metrics.addErrorCalculationNanos(evaluationEnd - evaluationStart);
+                        metrics.recordIteration(i, samples, error, rate);
+                    }
+
+                    notifyFitUpdateListeners(i, error, calculateSamplesPerSecond(samples, startTime));
+
+                    if (error <= minAcceptableError) return FitStopReason.MIN_ERROR_REACHED;
+
+                    if (earlyStopping != null && earlyStopping.shouldStop(this, parameters, i)) {
+                        earlyStopping.restoreBest(parameters);
+                        return FitStopReason.NO_VALIDATION_IMPROVEMENT;
+                    }
+
+                    if (checkpointer != null) checkpointer.update(i, parameters, optimizerState);
                 }
 
-                sampleIndex = (sampleIndex + 1) % dataset.size();
+                return FitStopReason.MAX_ITERATIONS_REACHED;
+            } finally {
+                if (checkpointer != null) checkpointer.finish();
             }
+        }
+    }
 
-            updateWeightsAndBiases();
+    // Momentum, Nesterov momentum and RMSProp all keep state of the same shape, so the shape alone does not tell them apart.
+    private void checkSameOptimizer(CheckpointFile checkpoint, double[][] optimizerState) {
+        var isSameOptimizer = checkpoint.getOptimizerName().equals(optimizer.getName())
+                && Arrays.equals(checkpoint.getHyperparameters(), optimizer.getHyperparameters())
+                && Parameters.haveSameShape(checkpoint.getOptimizerState(), optimizerState);
 
-            final var error = calculateError(dataset);
+        if (!isSameOptimizer)
+            throw new IllegalStateException("Checkpoint was saved with " + describe(checkpoint.getOptimizerName(), checkpoint.getHyperparameters())
+                    + ", which cannot be resumed with " + describe(optimizer.getName(), optimizer.getHyperparameters()) + ".");
+    }
+
+    private static String describe(String optimizerName, double[] hyperparameters) {
+        return hyperparameters.length == 0 ? optimizerName : optimizerName + " " + Arrays.toString(hyperparameters);
+    }
+
+    // Every iteration is exact, so the error comes straight from the objective and the error evaluator is not used.
+    private FitStopReason fitFullBatch(Dataset dataset) {
+        if (batchSize != dataset.size())
+            throw new IllegalStateException(fullBatchMethod + " needs the whole dataset in every batch.");
+
+        var startTime = System.nanoTime();
+
+        try (var accumulator = createGradientAccumulator()) {
+            var objective = new FullBatchObjective(weights, biases, accumulator, dataset);
+            var trainer = fullBatchMethod == FullBatchMethod.LBFGS ? new LbfgsTrainer(objective) : new RpropTrainer(objective);
+            var earlyStopping = this.earlyStopping;
+            var error = trainer.initialize();
 
-            if (!fitUpdateListeners.isEmpty()) {
-                final var iteration = i;
-                fitUpdateListeners.forEach(listener -> listener.onFitUpdate(iteration, error));
+            if (earlyStopping != null) earlyStopping.reset(objective.getParameters());
+            if (metrics != null) metrics.start(0);
+
+            for (int i = 1; i <= maxIterations; i++) {
+                if (!isBeingFitted) return FitStopReason.STOPPED_BY_USER;
+                if (error <= minAcceptableError) return FitStopReason.MIN_ERROR_REACHED;
+
+                error = trainer.step();
+
+                var evaluatedSamples = objective.getEvaluations() * dataset.size();
+                if (metrics != null) metrics.recordIteration(i, evaluatedSamples, error, Double.NaN);
+                notifyFitUpdateListeners(i, error, calculateSamplesPerSecond(evaluatedSamples, startTime));
+
+                if (earlyStopping != null && earlyStopping.shouldStop(this, objective.getParameters(), i)) {
+                    earlyStopping.restoreBest(objective.getParameters());
+                    return FitStopReason.NO_VALIDATION_IMPROVEMENT;
+                }
             }
 
-            if (error <= minAcceptableError) break;
+            return error <= minAcceptableError ? FitStopReason.MIN_ERROR_REACHED : FitStopReason.MAX_ITERATIONS_REACHED;
         }
-
-        isBeingFitted = false;
-        fitFinishListeners.forEach(NeuralNetworkFitFinishListener::onFitFinish);
     }
 
-    public double[] predict(double[] sample) {
-        var input = Vector.of(sample);
-        outputs[0] = input;
+    // Hogwild: every worker picks random samples and updates the shared weights without any locking. The updates are
+    // small and rarely collide, so an occasionally lost update costs far less than synchronizing every single one.
+    // Meanwhile this thread keeps measuring the error, so the reported error belongs to weights that are still moving.
+    // The interleaving of the updates depends on timing, so unlike the other methods this one is not reproducible.
+    private FitStopReason fitAsynchronously(Dataset dataset) {
+        if (batchSize != 1)
+            throw new IllegalStateException("Asynchronous fitting needs a batch size of 1.");
+
+        var workers = new HogwildWorker[parallelism];
+        var threads = new Thread[parallelism];
+        var samplesPerWorker = (maxIterations + parallelism - 1L) / parallelism;
+        var startTime = System.nanoTime();
+        if (metrics != null) metrics.start(0);
+
+        for (int worker = 0; worker < parallelism; worker++) {
+            workers[worker] = new HogwildWorker(weights, biases, layers, activation, loss, backend, dataset, random.split(), learningRate, samplesPerWorker);
+            workers[worker].setMetrics(metrics);
+            threads[worker] = new Thread(workers[worker], "Hogwild worker " + worker);
+            threads[worker].setDaemon(true);
+            threads[worker].start();
+        }
 
-        for (int layer = 0; layer < layers.length - 1; layer++) {
-            input = function.apply(weights[layer].times(input).plus(biases[layer]));
-            outputs[layer + 1] = input;
+        try {
+            var isAnyWorkerRunning = true;
+
+            while (isAnyWorkerRunning) {
+                if (!isBeingFitted) return FitStopReason.STOPPED_BY_USER;
+
+                var evaluationStart = System.nanoTime();
+                var error = calculateError(dataset);
+                if (metrics != null) metrics.addErrorCalculationNanos(System.nanoTime() - evaluationStart);
+
+                var processedSamples = 0L;
+                isAnyWorkerRunning = false;
+
+                for (var worker : workers) {
+                    processedSamples += worker.getProcessedSamples();
+                    isAnyWorkerRunning |= worker.isRunning();
+                }
+
+                var iteration = (int) Math.min(processedSamples, maxIterations);
+                if (metrics != null) metrics.recordIteration(iteration, processedSamples, error, learningRate);
+                notifyFitUpdateListeners(iteration, error, calculateSamplesPerSecond(processedSamples, startTime));
+
+                if (error <= minAcceptableError) return FitStopReason.MIN_ERROR_REACHED;
+            }
+
+            return FitStopReason.MAX_ITERATIONS_REACHED;
+        } finally {
+            for (var worker : workers) {
+                worker.stop();
+            }
+
+            joinAll(threads);
         }
+    }
 
-        return input.toArray();
+    private static void joinAll(Thread[] threads) {
+        for (var thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 
-    public double calculateError(Dataset dataset) {
-        var error = 0.0;
-        var N = dataset.size();
+    private static double calculateSamplesPerSecond(long samples, long startTime) {
+        return samples * 1e9 / Math.max(1, System.nanoTime() - startTime);
+    }
+
+    private void notifyFitUpdateListeners(int iteration, double error, double samplesPerSecond) {
+        lastIteration = iteration;
 
-        for (int i = 0; i < N; i++) {
-            var actual = dataset.getY(i);
-            var prediction = predict(dataset.getX(i));
-            error += calculateError(actual, prediction);
+        if (snapshotInterval > 0 && iteration >= nextSnapshotIteration) {
+            publishSnapshot(iteration);
+            nextSnapshotIteration = iteration + snapshotInterval;
         }
 
-        return 1.0 / (2 * N) * error;
+        for (int i = 0, size = fitUpdateListeners.size(); i < size; i++) {
+            fitUpdateListeners.get(i).onFitUpdate(iteration, error, samplesPerSecond);
+        }
     }
 
-    public double calculateError(double[] actual, double[] prediction) {
-        double error = 0.0;
+    // A batch is never split into more chunks than it has samples, so single sample batches stay on this thread.
+    private GradientAccumulator createGradientAccumulator() {
+        var threads = Math.min(parallelism, batchSize);
+        var accumulator = threads > 1
+                ? new ParallelBackpropagation(layers, activation, loss, backend, threads)
+                : new Backpropagation(layers, activation, loss, backend);
 
-        for (int i = 0; i < actual.length; i++) {
-            var delta = actual[i] - prediction[i];
-            error += delta * delta;
-        }
+        accumulator.setMetrics(metrics);
+        return accumulator;
+    }
 
-        return error;
+    public double[] predict(double[] sample) {
+        return feedForward(sample).toArray();
     }
 
-    public boolean isBeingFitted() {
-        return isBeingFitted;
+    // Copies the current weights and biases, so the model is not affected by any further fitting.
+    public InferenceModel freeze() {
+        return freeze(activation);
     }
 
-    public void stopFitting() {
-        isBeingFitted = false;
+    // Same as freeze(), but predictions of the frozen model evaluate the activation function with the given
+    // approximation instead of the one used for fitting.
+    public InferenceModel freeze(Approximation approximation) {
+        return freeze(activation.withApproximation(approximation));
+    }
+
+    private InferenceModel freeze(ActivationFunction activation) {
+        return new InferenceModel(layers.clone(), copyWeights(), copyBiases(), activation, loss, backend);
+    }
+
+    // The latest published weights, safe to read from any thread while the network is being fitted.
+    public WeightSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    private void publishSnapshot(int iteration) {
+        snapshot.set(createSnapshot(snapshot.get().getVersion() + 1, iteration));
+    }
+
+    private WeightSnapshot createSnapshot(long version, int iteration) {
+        return new WeightSnapshot(version, iteration, layers.clone(), copyWeights(), copyBiases(), activation, loss, backend);
     }
 
-    private void updateWeightsAndBiases() {
-        for (int i = 0; i < weights.length; i++) {
-            weights[i] = weights[i].plus(deltaWeights[i]);
-            biases[i] = biases[i].plus(deltaBiases[i]);
+    private double[][] copyWeights() {
+        var copy = new double[weights.length][];
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            copy[layer] = weights[layer].toArray();
         }
+
+        return copy;
     }
 
-    private void calculateDeltaWeights(int layer) {
-        var rows = weights[layer].getRows();
-        var cols = weights[layer].getColumns();
-        var deltaWeights = this.deltaWeights[layer];
+    private double[][] copyBiases() {
+        var copy = new double[biases.length][];
 
-        for (int col = 0; col < cols; col++) {
-            for (int row = 0; row < rows; row++) {
-                var currentDeltaWeight = deltaWeights.get(row, col);
+        for (int layer = 0; layer < biases.length; layer++) {
+            copy[layer] = biases[layer].toArray();
+        }
 
-                var neuronOutput = outputs[layer].get(col);
-                var neuronError = errors[layer + 1].get(row);
-                var additionalDeltaWeight = learningRate * neuronOutput * neuronError;
+        return copy;
+    }
 
-                deltaWeights.set(row, col, currentDeltaWeight + additionalDeltaWeight);
-            }
+    private Vector feedForward(double[] sample) {
+        outputs[0].copyFrom(sample);
+
+        for (int layer = 0; layer < layers.length - 1; layer++) {
+            weights[layer].timesPlusInto(backend, outputs[layer], biases[layer], outputs[layer + 1]);
+            activate(layer, outputs[layer + 1].getValues(), 1, layers[layer + 1]);
         }
+
+        return outputs[outputs.length - 1];
     }
 
-    private void calculateDeltaBiases(int layer) {
-        int neuronsInLayer = layers[layer + 1];
-        var deltaBiases = this.deltaBiases[layer];
+    public double[][] predictBatch(double[][] samples) {
+        var predictions = new double[samples.length][];
 
-        for (int i = 0; i < neuronsInLayer; i++) {
-            var currentDeltaBias = deltaBiases.get(i);
-            var additionalDeltaBias = learningRate * errors[layer + 1].get(i);
-            deltaBiases.set(i, currentDeltaBias + additionalDeltaBias);
+        for (int start = 0; start < samples.length; start += MAX_BLOCK_SIZE) {
+            var outputs = getBlockOutputs(Math.min(MAX_BLOCK_SIZE, samples.length - start));
+
+            for (int row = 0, rows = outputs[0].getRows(); row < rows; row++) {
+                outputs[0].setRow(row, samples[start + row]);
+            }
+
+            var blockPredictions = feedForwardBlock(outputs);
+
+            for (int row = 0, rows = blockPredictions.getRows(); row < rows; row++) {
+                predictions[start + row] = blockPredictions.getRow(row);
+            }
         }
+
+        return predictions;
     }
 
-    private void calculateHiddenLayerError(int layer) {
-        var neuronErrors = new double[layers[layer]];
-        var weights = this.weights[layer];
-        var rows = weights.getRows();
+    public double calculateError(Dataset dataset) {
+        var error = 0.0;
+        var N = dataset.size();
 
-        for (int i = 0; i < neuronErrors.length; i++) {
-            var neuronOutput = outputs[layer].get(i);
+        for (int start = 0; start < N; start += MAX_BLOCK_SIZE) {
+            var outputs = getBlockOutputs(Math.min(MAX_BLOCK_SIZE, N - start));
 
-            double error = 0.0;
-            for (int row = 0; row < rows; row++) {
-                error += weights.get(row, i) * errors[layer + 1].get(row);
+            for (int row = 0, rows = outputs[0].getRows(); row < rows; row++) {
+                outputs[0].setRow(row, dataset.getX(start + row));
             }
 
-            neuronErrors[i] = neuronOutput * (1 - neuronOutput) * error;
+            var predictions = feedForwardBlock(outputs);
+
+            for (int row = 0, rows = predictions.getRows(); row < rows; row++) {
+                error += loss.calculateLoss(predictions.getValues(), row * predictions.getColumns(), dataset.getY(start + row));
+            }
         }
 
-        errors[layer] = Vector.of(neuronErrors);
+        return error / N;
     }
 
-    private void calculateOutputLayerError(double[] actual, double[] prediction) {
-        double[] neuronErrors = new double[actual.length];
+    // Sum of the squared differences, whatever loss the network is fitted with.
+    public double calculateError(double[] actual, double[] prediction) {
+        double error = 0.0;
 
-        for (int i = 0; i < neuronErrors.length; i++) {
-            neuronErrors[i] = prediction[i] * (1 - prediction[i]) * (actual[i] - prediction[i]);
+        for (int i = 0; i < actual.length; i++) {
+            var delta = actual[i] - prediction[i];
+            error += delta * delta;
+        }
+
+        return error;
+    }
+
+    // Every sample of the block is one row, so each layer is a single matrix-matrix product.
+    private Matrix feedForwardBlock(Matrix[] outputs) {
+        for (int layer = 0; layer < layers.length - 1; layer++) {
+            outputs[layer].timesTransposePlusInto(backend, weights[layer], biases[layer], outputs[layer + 1]);
+            activate(layer, outputs[layer + 1].getValues(), outputs[layer + 1].getRows(), layers[layer + 1]);
         }
 
-        errors[errors.length - 1] = Vector.of(neuronErrors);
+        return outputs[outputs.length - 1];
     }
 
-    private void resetDeltaWeightsAndBiases() {
-        for (int i = 0; i < deltaWeights.length; i++) {
-            deltaWeights[i] = Matrix.zero(layers[i + 1], layers[i]);
+    // Hidden layers are activated in one pass over all the rows, the loss function decides what the output layer produces.
+    private void activate(int layer, double[] values, int rows, int columns) {
+        if (layer < layers.length - 2) {
+            activation.applyInPlace(values, 0, rows * columns);
+            return;
         }
 
-        for (int layer = 1; layer < layers.length; layer++) {
-            int neuronsInLayer = layers[layer];
-            deltaBiases[layer - 1] = Vector.zero(neuronsInLayer);
+        for (int row = 0; row < rows; row++) {
+            loss.activate(activation, values, row * columns, columns);
         }
     }
 
+    private Matrix[] getBlockOutputs(int blockSize) {
+        if (blockOutputs[blockSize] == null) {
+            blockOutputs[blockSize] = new Matrix[layers.length];
+
+            for (int layer = 0; layer < layers.length; layer++) {
+                blockOutputs[blockSize][layer] = Matrix.zero(blockSize, layers[layer]);
+            }
+        }
+
+        return blockOutputs[blockSize];
+    }
+
+    public boolean isBeingFitted() {
+        return isBeingFitted;
+    }
+
+    public void stopFitting() {
+        isBeingFitted = false;
+    }
+
+    // Why the last fit stopped, or null if the network has not finished fitting yet.
+    public FitStopReason getStopReason() {
+        return stopReason;
+    }
+
     // =============================================================================================
     //                                       Listeners
     // =============================================================================================
@@ -254,6 +556,22 @@ public class NeuralNetwork {
         return layers.clone();
     }
 
+    public LinearAlgebraBackend getLinearAlgebraBackend() {
+        return backend;
+    }
+
+    public Checkpointer getCheckpointer() {
+        return checkpointer;
+    }
+
+    public ActivationFunction getActivation() {
+        return activation;
+    }
+
+    public LossFunction getLoss() {
+        return loss;
+    }
+
     public int getInputNeuronCount() {
         return layers[0];
     }
@@ -281,4 +599,89 @@ public class NeuralNetwork {
     public void setBatchSize(int batchSize) {
         this.batchSize = batchSize;
     }
+
+    // Runs every kernel of this network on the backend: fitting, predicting and the models frozen from it. Other
+    // networks keep their own backends, whatever this one uses.
+    public void setLinearAlgebraBackend(LinearAlgebraBackend backend) {
+        this.backend = backend;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+
+        this.parallelism = parallelism;
+    }
+
+    // Hogwild fitting, every one of the parallelism threads applies single sample updates on its own. Needs a batch size
+    // of 1 and takes precedence over the full batch method.
+    public void setAsynchronous(boolean isAsynchronous) {
+        this.isAsynchronous = isAsynchronous;
+    }
+
+    // Only applies when every batch is the whole dataset.
+    public void setFullBatchMethod(FullBatchMethod fullBatchMethod) {
+        this.fullBatchMethod = fullBatchMethod;
+    }
+
+    // Not used by asynchronous fitting, whose workers always apply plain gradient descent steps.
+    public void setOptimizer(Optimizer optimizer) {
+        this.optimizer = optimizer;
+    }
+
+    // Not used by asynchronous fitting, whose workers always draw random samples.
+    public void setSampler(Sampler sampler) {
+        this.sampler = sampler;
+    }
+
+    // Only used by asynchronous fitting, every worker draws its samples from its own stream split off this one.
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    // Not used by asynchronous fitting, which measures the whole error continuously on the fitting thread.
+    public void setErrorEvaluator(ErrorEvaluator errorEvaluator) {
+        this.errorEvaluator = errorEvaluator;
+    }
+
+    // Not used by full batch methods, which choose their own step sizes, nor by asynchronous fitting.
+    public void setLearningRateSchedule(LearningRateSchedule learningRateSchedule) {
+        this.learningRateSchedule = learningRateSchedule;
+    }
+
+    // Null disables checkpointing. Only used by mini-batch fitting with an optimizer, which is the only kind of fitting
+    // that can be resumed. Asynchronous and full batch fitting reject a checkpoint to resume from.
+    public void setCheckpointer(Checkpointer checkpointer) {
+        this.checkpointer = checkpointer;
+    }
+
+    // The next fit continues from the iteration, parameters and optimizer state of the checkpoint, only the sampler
+    // starts over. Its optimizer must have the same name and hyperparameters as the one that saved the checkpoint.
+    public void resumeFrom(CheckpointFile checkpoint) {
+        if (!Parameters.haveSameShape(checkpoint.getParameters(), Parameters.getValuesOf(weights, biases)))
+            throw new IllegalArgumentException("Checkpoint does not match the layers of this network.");
+
+        this.resumePoint = checkpoint;
+    }
+
+    // Publishes a new weight snapshot every this many iterations while fitting, zero only publishes one when a fit
+    // finishes. Asynchronous fitting copies the weights while its workers keep updating them, so only its final
+    // snapshot is guaranteed to be consistent.
+    public void setSnapshotInterval(int snapshotInterval) {
+        if (snapshotInterval < 0)
+            throw new IllegalArgumentException("Snapshot interval cannot be negative.");
+
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    // Null disables collecting metrics, the phases of fitting are then not timed at all. The time full batch methods
+    // spend outside of accumulating gradients is not attributed to any phase.
+    public void setMetrics(TrainingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Null disables early stopping. Not used by asynchronous fitting.
+    public void setEarlyStopping(EarlyStopping earlyStopping) {
+        this.earlyStopping = earlyStopping;
+    }
 }
@@ -2,5 +2,5 @@ package network;
 
 @FunctionalInterface
 public interface NeuralNetworkFitUpdateListener {
-    void onFitUpdate(int iteration, double error);
+    void onFitUpdate(int iteration, double error, double samplesPerSecond);
 }
@@ -0,0 +1,146 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import math.Matrix;
+import math.Vector;
+import network.activation.ActivationFunction;
+import network.loss.LossFunction;
+import network.metrics.TrainingMetrics;
+import structures.Dataset;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+final class ParallelBackpropagation implements GradientAccumulator {
+
+    private final ForkJoinPool pool;
+    private final Backpropagation[] workers;
+    private final Backpropagation total;
+
+    // Created once and reinitialized before every use, so an iteration does not allocate any tasks.
+    private final ForkJoinTask<?>[] accumulateTasks;
+    private final ForkJoinTask<?>[][] reduceTasks;
+    private final ForkJoinTask<?> rootTask;
+
+    // Arguments of the accumulation that is currently in progress, read by the worker tasks.
+    private Matrix[] weights;
+    private Vector[] biases;
+    private Dataset dataset;
+    private int[] sampleIndices;
+    private int from;
+    private int to;
+    private double learningRate;
+
+    private TrainingMetrics metrics;
+
+    ParallelBackpropagation(int[] layers, ActivationFunction activation, LossFunction loss, LinearAlgebraBackend backend, int parallelism) {
+        pool = new ForkJoinPool(parallelism);
+        workers = new Backpropagation[parallelism];
+        total = new Backpropagation(layers, activation, loss, backend);
+        accumulateTasks = new ForkJoinTask<?>[parallelism];
+
+        for (int worker = 0; worker < parallelism; worker++) {
+            final var index = worker;
+            workers[worker] = new Backpropagation(layers, activation, loss, backend);
+            accumulateTasks[worker] = ForkJoinTask.adapt(() -> accumulateChunk(index));
+        }
+
+        // Pairwise tree over the workers. The pairs never depend on timing, so for a fixed number of threads the
+        // floating point additions always happen in the same order and the result is reproducible.
+        var levels = 32 - Integer.numberOfLeadingZeros(parallelism - 1);
+        reduceTasks = new ForkJoinTask<?>[levels][];
+
+        for (int level = 0, step = 1; level < levels; level++, step *= 2) {
+            reduceTasks[level] = new ForkJoinTask<?>[(parallelism - step + 2 * step - 1) / (2 * step)];
+
+            for (int worker = 0, task = 0; worker + step < parallelism; worker += 2 * step, task++) {
+                var target = workers[worker];
+                var source = workers[worker + step];
+                reduceTasks[level][task] = ForkJoinTask.adapt(() -> target.add(source));
+            }
+        }
+
+        rootTask = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAllAfterReinitializing(accumulateTasks);
+                var reductionStart = System.nanoTime();
+
+                for (var level : reduceTasks) {
+                    invokeAllAfterReinitializing(level);
+                }
+
+                // Summing the workers' deltas is part of accumulating them.
+                if (metrics != null) metrics.addDeltaAccumulationNanos(System.nanoTime() - reductionStart);
+            }
+        };
+    }
+
+    @Override
+    public void reset() {
+        total.reset();
+    }
+
+    @Override
+    public void accumulate(Matrix[] weights, Vector[] biases, Dataset dataset, int[] sampleIndices, int from, int to, double learningRate) {
+        this.weights = weights;
+        this.biases = biases;
+        this.dataset = dataset;
+        this.sampleIndices = sampleIndices;
+        this.from = from;
+        this.to = to;
+        this.learningRate = learningRate;
+
+        rootTask.reinitialize();
+        pool.invoke(rootTask);
+        total.add(workers[0]);
+    }
+
+    @Override
+    public Matrix[] getDeltaWeights() {
+        return total.getDeltaWeights();
+    }
+
+    @Override
+    public Vector[] getDeltaBiases() {
+        return total.getDeltaBiases();
+    }
+
+    @Override
+    public double getBatchError() {
+        return total.getBatchError();
+    }
+
+    @Override
+    public void setMetrics(TrainingMetrics metrics) {
+        this.metrics = metrics;
+
+        for (var worker : workers) {
+            worker.setMetrics(metrics);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Every worker gets one contiguous chunk of the batch; the chunk boundaries depend only on the batch size.
+    private void accumulateChunk(int worker) {
+        var size = to - from;
+        var chunkFrom = from + (int) ((long) worker * size / workers.length);
+        var chunkTo = from + (int) ((long) (worker + 1) * size / workers.length);
+
+        workers[worker].reset();
+        workers[worker].accumulate(weights, biases, dataset, sampleIndices, chunkFrom, chunkTo, learningRate);
+    }
+
+    private static void invokeAllAfterReinitializing(ForkJoinTask<?>[] tasks) {
+        for (var task : tasks) {
+            task.reinitialize();
+        }
+
+        ForkJoinTask.invokeAll(tasks);
+    }
+}
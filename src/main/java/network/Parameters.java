@@ -0,0 +1,89 @@
+package network;
+
+import math.Matrix;
+import math.Vector;
+
+// Operations on all the weights and biases at once, given as one array per weight matrix and bias vector.
+public final class Parameters {
+
+    private Parameters() {
+    }
+
+    // Backing arrays in the order the optimizers expect: weights and then biases of every layer.
+    static double[][] getValuesOf(Matrix[] weights, Vector[] biases) {
+        var values = new double[2 * weights.length][];
+
+        for (int layer = 0; layer < weights.length; layer++) {
+            values[2 * layer] = weights[layer].getValues();
+            values[2 * layer + 1] = biases[layer].getValues();
+        }
+
+        return values;
+    }
+
+    // Zero filled arrays of the same shape, also used by the optimizers for their state.
+    public static double[][] createZeroed(double[][] shape) {
+        var values = new double[shape.length][];
+
+        for (int i = 0; i < shape.length; i++) {
+            values[i] = new double[shape[i].length];
+        }
+
+        return values;
+    }
+
+    static boolean haveSameShape(double[][] left, double[][] right) {
+        if (left.length != right.length) return false;
+
+        for (int i = 0; i < left.length; i++) {
+            if (left[i].length != right[i].length) return false;
+        }
+
+        return true;
+    }
+
+    static double dot(double[][] left, double[][] right) {
+        var sum = 0.0;
+
+        for (int i = 0; i < left.length; i++) {
+            for (int j = 0; j < left[i].length; j++) {
+                sum += left[i][j] * right[i][j];
+            }
+        }
+
+        return sum;
+    }
+
+    static void copy(double[][] source, double[][] destination) {
+        for (int i = 0; i < source.length; i++) {
+            System.arraycopy(source[i], 0, destination[i], 0, source[i].length);
+        }
+    }
+
+    // destination = scalar * source
+    static void scale(double scalar, double[][] source, double[][] destination) {
+        for (int i = 0; i < source.length; i++) {
+            for (int j = 0; j < source[i].length; j++) {
+                destination[i][j] = scalar * source[i][j];
+            }
+        }
+    }
+
+    // destination += scalar * source
+    static void scaleAndAdd(double scalar, double[][] source, double[][] destination) {
+        for (int i = 0; i < source.length; i++) {
+            for (int j = 0; j < source[i].length; j++) {
+                destination[i][j] += scalar * source[i][j];
+            }
+        }
+    }
+
+    // destination = left - right
+    static void subtract(double[][] left, double[][] right, double[][] destination) {
+        for (int i = 0; i < left.length; i++) {
+            for (int j = 0; j < left[i].length; j++) {
+                destination[i][j] = left[i][j] - right[i][j];
+            }
+        }
+    }
+}
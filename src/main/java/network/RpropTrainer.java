@@ -0,0 +1,65 @@
+package network;
+
+import java.util.Arrays;
+
+// iRprop-: every parameter has its own step size, which grows while the sign of its gradient stays the same and shrinks
+// when the sign flips. Only the signs of the gradient are used, so the error surface's scale does not matter.
+final class RpropTrainer implements FullBatchTrainer {
+
+    private static final double INITIAL_STEP_SIZE = 0.01;
+    private static final double MIN_STEP_SIZE = 1e-6;
+    private static final double MAX_STEP_SIZE = 50;
+    private static final double STEP_SIZE_INCREASE = 1.2;
+    private static final double STEP_SIZE_DECREASE = 0.5;
+
+    private final FullBatchObjective objective;
+    private final double[][] parameters;
+    private final double[][] stepSizes;
+    private final double[][] previousDirections;
+
+    RpropTrainer(FullBatchObjective objective) {
+        this.objective = objective;
+        parameters = objective.getParameters();
+        stepSizes = Parameters.createZeroed(parameters);
+        previousDirections = Parameters.createZeroed(parameters);
+
+        for (var sizes : stepSizes) {
+            Arrays.fill(sizes, INITIAL_STEP_SIZE);
+        }
+    }
+
+    @Override
+    public double initialize() {
+        return objective.evaluate();
+    }
+
+    @Override
+    public double step() {
+        var directions = objective.getDirections();
+
+        for (int i = 0; i < parameters.length; i++) {
+            var parameter = parameters[i];
+            var direction = directions[i];
+            var previousDirection = previousDirections[i];
+            var stepSize = stepSizes[i];
+
+            for (int j = 0; j < parameter.length; j++) {
+                var signChange = direction[j] * previousDirection[j];
+
+                if (signChange > 0) {
+                    stepSize[j] = Math.min(stepSize[j] * STEP_SIZE_INCREASE, MAX_STEP_SIZE);
+                } else if (signChange < 0) {
+                    // Jumped over a minimum, so skip this parameter once and do not count the flip again next time.
+                    stepSize[j] = Math.max(stepSize[j] * STEP_SIZE_DECREASE, MIN_STEP_SIZE);
+                    previousDirection[j] = 0;
+                    continue;
+                }
+
+                parameter[j] += Math.signum(direction[j]) * stepSize[j];
+                previousDirection[j] = direction[j];
+            }
+        }
+
+        return objective.evaluate();
+    }
+}
@@ -0,0 +1,76 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import network.activation.ActivationFunction;
+import network.activation.Approximation;
+import network.loss.LossFunction;
+
+// Immutable copy of the weights and biases of a network, as they were after some iteration. The network publishes a
+// new snapshot every so often while fitting, so other threads can read a consistent model without ever locking it.
+public final class WeightSnapshot {
+
+    private final long version;
+    private final int iteration;
+    private final int[] layers;
+
+    // Row-major, every layer has one row per neuron of the next layer.
+    private final double[][] weights;
+    private final double[][] biases;
+
+    private final ActivationFunction activation;
+    private final LossFunction loss;
+    private final LinearAlgebraBackend backend;
+
+    WeightSnapshot(long version, int iteration, int[] layers, double[][] weights, double[][] biases,
+                   ActivationFunction activation, LossFunction loss, LinearAlgebraBackend backend) {
+        this.version = version;
+        this.iteration = iteration;
+        this.layers = layers;
+        this.weights = weights;
+        this.biases = biases;
+        this.activation = activation;
+        this.loss = loss;
+        this.backend = backend;
+    }
+
+    // Predicts straight from the snapshot's arrays, nothing is copied as the snapshot never changes.
+    public InferenceModel freeze() {
+        return new InferenceModel(layers, weights, biases, activation, loss, backend);
+    }
+
+    public InferenceModel freeze(Approximation approximation) {
+        return new InferenceModel(layers, weights, biases, activation.withApproximation(approximation), loss, backend);
+    }
+
+    // Increases by one with every published snapshot, starting at zero for the initial weights.
+    public long getVersion() {
+        return version;
+    }
+
+    // The last iteration that went into the snapshot, zero before the first fit.
+    public int getIteration() {
+        return iteration;
+    }
+
+    public int[] getLayers() {
+        return layers.clone();
+    }
+
+    public int getLayerCount() {
+        return layers.length;
+    }
+
+    public int getNeuronCount(int layer) {
+        return layers[layer];
+    }
+
+    // Weight of the connection from the given neuron of the layer to the given neuron of the next layer.
+    public double getWeight(int layer, int from, int to) {
+        return weights[layer][to * layers[layer] + from];
+    }
+
+    // Bias of the given neuron of the next layer, indexed like the weights leading into it.
+    public double getBias(int layer, int neuron) {
+        return biases[layer][neuron];
+    }
+}
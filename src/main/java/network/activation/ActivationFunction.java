@@ -1,8 +1,22 @@
 package network.activation;
 
-import math.Vector;
-
+// Besides single values, every function works on whole slices of arrays. Each implementation then runs one tight loop
+// of its own that the JIT can unroll, instead of making an interface call for every single element.
 public interface ActivationFunction {
-    Vector apply(Vector vector);
+
     double apply(double value);
+
+    // Derivative at the weighted input that produced the given output. Every activation here is monotonic, so the
+    // derivative follows from the output alone and backpropagation does not have to keep the weighted inputs.
+    double derivativeFromOutput(double output);
+
+    void applyInPlace(double[] values, int offset, int length);
+
+    // Multiplies every error by the derivative at the matching output, which is the only way backpropagation uses it.
+    void derivativeFromOutput(double[] outputs, int offset, int length, double[] errors);
+
+    // The same function evaluated with the given approximation. Functions that are cheap to evaluate exactly ignore it.
+    default ActivationFunction withApproximation(Approximation approximation) {
+        return this;
+    }
 }
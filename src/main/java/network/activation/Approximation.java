@@ -0,0 +1,35 @@
+package network.activation;
+
+// How sigmoid and tanh are evaluated, the other activation functions are always exact. Both approximations avoid
+// Math.exp, their maximum absolute errors hold over the whole real line and are measured against Math.tanh and the
+// exact sigmoid. Sigmoid is evaluated through tanh, so its error is half of the tanh error.
+public enum Approximation {
+    EXACT("Exact"),
+
+    // Max error 7.1e-5 for tanh and 3.6e-5 for sigmoid.
+    RATIONAL("Rational"),
+
+    // Max error 5.9e-6 for tanh and 3.0e-6 for sigmoid.
+    LOOKUP_TABLE("Lookup table");
+
+    private final String name;
+
+    Approximation(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static Approximation from(String name) {
+        for (var approximation : values()) {
+            if (approximation.toString().equals(name)) {
+                return approximation;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific approximation.");
+    }
+}
@@ -0,0 +1,43 @@
+package network.activation;
+
+// Keeps a small slope for negative inputs, so a neuron that ends up there still gets a gradient and can recover.
+public class LeakyRelu implements ActivationFunction {
+
+    private final double slope;
+
+    public LeakyRelu(double slope) {
+        if (slope <= 0 || slope >= 1)
+            throw new IllegalArgumentException("Slope must be in range (0, 1).");
+
+        this.slope = slope;
+    }
+
+    @Override
+    public double apply(double value) {
+        return value > 0 ? value : slope * value;
+    }
+
+    @Override
+    public double derivativeFromOutput(double output) {
+        return output > 0 ? 1 : slope;
+    }
+
+    @Override
+    public void applyInPlace(double[] values, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            var value = values[i];
+            values[i] = value > 0 ? value : slope * value;
+        }
+    }
+
+    @Override
+    public void derivativeFromOutput(double[] outputs, int offset, int length, double[] errors) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            errors[i] = outputs[i] > 0 ? errors[i] : slope * errors[i];
+        }
+    }
+
+    public double getSlope() {
+        return slope;
+    }
+}
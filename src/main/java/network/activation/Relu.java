@@ -0,0 +1,28 @@
+package network.activation;
+
+public class Relu implements ActivationFunction {
+
+    @Override
+    public double apply(double value) {
+        return value > 0 ? value : 0;
+    }
+
+    @Override
+    public double derivativeFromOutput(double output) {
+        return output > 0 ? 1 : 0;
+    }
+
+    @Override
+    public void applyInPlace(double[] values, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            values[i] = Math.max(values[i], 0);
+        }
+    }
+
+    @Override
+    public void derivativeFromOutput(double[] outputs, int offset, int length, double[] errors) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            errors[i] = outputs[i] > 0 ? errors[i] : 0;
+        }
+    }
+}
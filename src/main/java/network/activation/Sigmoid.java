@@ -1,20 +1,70 @@
 package network.activation;
 
-import math.Vector;
-
 public class Sigmoid implements ActivationFunction {
 
+    private final Approximation approximation;
+
+    public Sigmoid() {
+        this(Approximation.EXACT);
+    }
+
+    // Approximations use sigmoid(x) = (1 + tanh(x / 2)) / 2.
+    public Sigmoid(Approximation approximation) {
+        this.approximation = approximation;
+    }
+
     @Override
-    public Vector apply(Vector vector) {
-        for (int i = 0, size = vector.size(); i < size; i++) {
-            vector.set(i, apply(vector.get(i)));
+    public double apply(double value) {
+        switch (approximation) {
+            case RATIONAL:
+                return 0.5 + 0.5 * TanhApproximations.rational(0.5 * value);
+            case LOOKUP_TABLE:
+                return 0.5 + 0.5 * TanhApproximations.lookup(0.5 * value);
+            default:
+                return 1 / (1 + Math.exp(-value));
         }
+    }
 
-        return vector;
+    @Override
+    public double derivativeFromOutput(double output) {
+        return output * (1 - output);
     }
 
+    // The approximation is chosen once per call, so every case is a loop of its own.
     @Override
-    public double apply(double value) {
-        return 1 / (1 + Math.exp(-value));
+    public void applyInPlace(double[] values, int offset, int length) {
+        switch (approximation) {
+            case RATIONAL:
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    values[i] = 0.5 + 0.5 * TanhApproximations.rational(0.5 * values[i]);
+                }
+                break;
+            case LOOKUP_TABLE:
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    values[i] = 0.5 + 0.5 * TanhApproximations.lookup(0.5 * values[i]);
+                }
+                break;
+            default:
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    values[i] = 1 / (1 + Math.exp(-values[i]));
+                }
+        }
+    }
+
+    @Override
+    public void derivativeFromOutput(double[] outputs, int offset, int length, double[] errors) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            var output = outputs[i];
+            errors[i] *= output * (1 - output);
+        }
+    }
+
+    public Approximation getApproximation() {
+        return approximation;
+    }
+
+    @Override
+    public ActivationFunction withApproximation(Approximation approximation) {
+        return new Sigmoid(approximation);
     }
 }
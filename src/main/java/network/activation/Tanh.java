@@ -0,0 +1,69 @@
+package network.activation;
+
+public class Tanh implements ActivationFunction {
+
+    private final Approximation approximation;
+
+    public Tanh() {
+        this(Approximation.EXACT);
+    }
+
+    public Tanh(Approximation approximation) {
+        this.approximation = approximation;
+    }
+
+    @Override
+    public double apply(double value) {
+        switch (approximation) {
+            case RATIONAL:
+                return TanhApproximations.rational(value);
+            case LOOKUP_TABLE:
+                return TanhApproximations.lookup(value);
+            default:
+                return Math.tanh(value);
+        }
+    }
+
+    @Override
+    public double derivativeFromOutput(double output) {
+        return 1 - output * output;
+    }
+
+    // The approximation is chosen once per call, so every case is a loop of its own.
+    @Override
+    public void applyInPlace(double[] values, int offset, int length) {
+        switch (approximation) {
+            case RATIONAL:
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    values[i] = TanhApproximations.rational(values[i]);
+                }
+                break;
+            case LOOKUP_TABLE:
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    values[i] = TanhApproximations.lookup(values[i]);
+                }
+                break;
+            default:
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    values[i] = Math.tanh(values[i]);
+                }
+        }
+    }
+
+    @Override
+    public void derivativeFromOutput(double[] outputs, int offset, int length, double[] errors) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            var output = outputs[i];
+            errors[i] *= 1 - output * output;
+        }
+    }
+
+    public Approximation getApproximation() {
+        return approximation;
+    }
+
+    @Override
+    public ActivationFunction withApproximation(Approximation approximation) {
+        return new Tanh(approximation);
+    }
+}
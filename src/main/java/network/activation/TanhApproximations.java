@@ -0,0 +1,38 @@
+package network.activation;
+
+final class TanhApproximations {
+
+    // The [7/6] Padé approximant stays below 1 up to about 5, where it starts to overshoot. Holding its value from this
+    // input on gives the smallest maximum error over the whole line, 7.1e-5 right at the clamp.
+    private static final double RATIONAL_CLAMP = 4.785;
+
+    // Table of tanh at every 1/128 from 0 to 8, odd symmetry covers the negative inputs. Beyond 8, tanh is within
+    // 2.3e-7 of 1. Linear interpolation between the entries is off by at most 5.9e-6, in the steepest part near 0.6.
+    private static final int STEPS_PER_UNIT = 128;
+    private static final int LAST_STEP = 8 * STEPS_PER_UNIT;
+    private static final double[] TABLE = new double[LAST_STEP + 2];
+
+    static {
+        for (int i = 0; i < TABLE.length; i++) {
+            TABLE[i] = Math.tanh((double) i / STEPS_PER_UNIT);
+        }
+    }
+
+    private TanhApproximations() {
+    }
+
+    static double rational(double value) {
+        var x = Math.max(-RATIONAL_CLAMP, Math.min(RATIONAL_CLAMP, value));
+        var x2 = x * x;
+        return x * (135135 + x2 * (17325 + x2 * (378 + x2))) / (135135 + x2 * (62370 + x2 * (3150 + 28 * x2)));
+    }
+
+    static double lookup(double value) {
+        var scaled = Math.abs(value) * STEPS_PER_UNIT;
+        if (scaled >= LAST_STEP) return Math.copySign(1, value);
+
+        var index = (int) scaled;
+        var fraction = scaled - index;
+        return Math.copySign(TABLE[index] + fraction * (TABLE[index + 1] - TABLE[index]), value);
+    }
+}
@@ -0,0 +1,65 @@
+package network.evaluation;
+
+import network.NeuralNetwork;
+import structures.Dataset;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Measures the error of a frozen copy of the network on a separate thread, so fitting never waits for it. The returned
+// error therefore lags a few iterations behind the weights, and so does stopping on the minimum acceptable error.
+public class BackgroundErrorEvaluator implements ErrorEvaluator {
+
+    private final int interval;
+
+    private ExecutorService executor;
+
+    private volatile double error;
+    private volatile boolean isEvaluating;
+
+    public BackgroundErrorEvaluator(int interval) {
+        if (interval < 1)
+            throw new IllegalArgumentException("Interval must be at least 1.");
+
+        this.interval = interval;
+    }
+
+    @Override
+    public double evaluate(NeuralNetwork network, Dataset dataset, int iteration, double batchError) {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(BackgroundErrorEvaluator::createThread);
+            error = network.calculateError(dataset);
+            return error;
+        }
+
+        if ((iteration - 1) % interval == 0 && !isEvaluating) {
+            isEvaluating = true;
+            var model = network.freeze();
+
+            executor.execute(() -> {
+                try {
+                    error = model.calculateError(dataset);
+                } finally {
+                    isEvaluating = false;
+                }
+            });
+        }
+
+        return error;
+    }
+
+    @Override
+    public void close() {
+        if (executor == null) return;
+
+        executor.shutdownNow();
+        executor = null;
+        isEvaluating = false;
+    }
+
+    private static Thread createThread(Runnable runnable) {
+        var thread = new Thread(runnable, "Background error evaluator");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,15 @@
+package network.evaluation;
+
+import network.NeuralNetwork;
+import structures.Dataset;
+
+public interface ErrorEvaluator extends AutoCloseable {
+
+    // Called after every update of the weights, returns the most recent estimate of the error on the whole dataset.
+    double evaluate(NeuralNetwork network, Dataset dataset, int iteration, double batchError);
+
+    // Called once fitting finishes, after which the evaluator can be used for another fit.
+    @Override
+    default void close() {
+    }
+}
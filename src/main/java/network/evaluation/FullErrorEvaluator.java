@@ -0,0 +1,35 @@
+package network.evaluation;
+
+import network.NeuralNetwork;
+import structures.Dataset;
+
+// Measures the error on the first iteration of every fit and then every interval iterations. A resumed fit starts at
+// any iteration, so the interval alone would leave it without a measured error until the next multiple.
+public class FullErrorEvaluator implements ErrorEvaluator {
+
+    private final int interval;
+    private double error;
+    private boolean hasEvaluated;
+
+    public FullErrorEvaluator(int interval) {
+        if (interval < 1)
+            throw new IllegalArgumentException("Interval must be at least 1.");
+
+        this.interval = interval;
+    }
+
+    @Override
+    public double evaluate(NeuralNetwork network, Dataset dataset, int iteration, double batchError) {
+        if (!hasEvaluated || (iteration - 1) % interval == 0) {
+            error = network.calculateError(dataset);
+            hasEvaluated = true;
+        }
+
+        return error;
+    }
+
+    @Override
+    public void close() {
+        hasEvaluated = false;
+    }
+}
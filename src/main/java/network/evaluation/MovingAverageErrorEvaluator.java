@@ -0,0 +1,30 @@
+package network.evaluation;
+
+import network.NeuralNetwork;
+import structures.Dataset;
+
+// Exponential moving average of the errors of the mini-batches, which are known anyway and cost nothing to measure.
+// Each batch error is measured before its update, so the average trails the real error slightly.
+public class MovingAverageErrorEvaluator implements ErrorEvaluator {
+
+    private final double smoothing;
+    private double error = Double.NaN;
+
+    public MovingAverageErrorEvaluator(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1)
+            throw new IllegalArgumentException("Smoothing must be in range (0, 1].");
+
+        this.smoothing = smoothing;
+    }
+
+    @Override
+    public double evaluate(NeuralNetwork network, Dataset dataset, int iteration, double batchError) {
+        error = Double.isNaN(error) ? batchError : error + smoothing * (batchError - error);
+        return error;
+    }
+
+    @Override
+    public void close() {
+        error = Double.NaN;
+    }
+}
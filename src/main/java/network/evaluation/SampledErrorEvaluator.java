@@ -0,0 +1,71 @@
+package network.evaluation;
+
+import network.NeuralNetwork;
+import structures.Dataset;
+
+import java.util.SplittableRandom;
+
+// Estimates the error from a random subset of the dataset. The estimate is noisy, so fitting may stop on a lucky subset.
+// Like the full evaluator, it always measures on the first iteration of a fit.
+public class SampledErrorEvaluator implements ErrorEvaluator {
+
+    private final int interval;
+    private final int sampleCount;
+    private final SplittableRandom random;
+
+    private double[][] sampledX;
+    private double[][] sampledY;
+    private Dataset sampledDataset;
+    private double error;
+    private boolean hasEvaluated;
+
+    public SampledErrorEvaluator(int interval, int sampleCount) {
+        this(interval, sampleCount, new SplittableRandom());
+    }
+
+    public SampledErrorEvaluator(int interval, int sampleCount, SplittableRandom random) {
+        if (interval < 1)
+            throw new IllegalArgumentException("Interval must be at least 1.");
+
+        if (sampleCount < 1)
+            throw new IllegalArgumentException("Sample count must be at least 1.");
+
+        this.interval = interval;
+        this.sampleCount = sampleCount;
+        this.random = random;
+    }
+
+    @Override
+    public double evaluate(NeuralNetwork network, Dataset dataset, int iteration, double batchError) {
+        if (hasEvaluated && (iteration - 1) % interval != 0) return error;
+        hasEvaluated = true;
+
+        if (sampleCount >= dataset.size()) {
+            error = network.calculateError(dataset);
+            return error;
+        }
+
+        if (sampledDataset == null) {
+            sampledX = new double[sampleCount][];
+            sampledY = new double[sampleCount][];
+            sampledDataset = new Dataset(sampledX, sampledY);
+        }
+
+        for (int i = 0; i < sampleCount; i++) {
+            var index = random.nextInt(dataset.size());
+            sampledX[i] = dataset.getX(index);
+            sampledY[i] = dataset.getY(index);
+        }
+
+        error = network.calculateError(sampledDataset);
+        return error;
+    }
+
+    @Override
+    public void close() {
+        hasEvaluated = false;
+        sampledX = null;
+        sampledY = null;
+        sampledDataset = null;
+    }
+}
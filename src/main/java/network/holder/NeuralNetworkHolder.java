@@ -2,8 +2,14 @@ package network.holder;
 
 import network.NeuralNetwork;
 
+import java.util.List;
+
 public interface NeuralNetworkHolder {
     NeuralNetwork getNeuralNetwork();
+
+    // Names of the classes, in the order of the output neurons of the held network.
+    List<String> getLabels();
+
     void addChangeListener(NeuralNetworkChangeListener listener);
     void removeChangeListener(NeuralNetworkChangeListener listener);
 }
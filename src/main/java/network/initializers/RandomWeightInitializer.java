@@ -3,21 +3,25 @@ package network.initializers;
 import math.Matrix;
 import math.Vector;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class RandomWeightInitializer implements WeightInitializer {
 
-    private static final Random RANDOM = new Random();
-
     private final double lowerBound;
     private final double upperBound;
+    private final SplittableRandom random;
 
     public RandomWeightInitializer(double lowerBound, double upperBound) {
+        this(lowerBound, upperBound, new SplittableRandom());
+    }
+
+    public RandomWeightInitializer(double lowerBound, double upperBound, SplittableRandom random) {
         if (lowerBound > upperBound)
             throw new IllegalArgumentException("Lower bound cannot be greater than upper bound");
 
         this.lowerBound = lowerBound;
         this.upperBound = upperBound;
+        this.random = random;
     }
 
     @Override
@@ -48,6 +52,6 @@ public class RandomWeightInitializer implements WeightInitializer {
     }
 
     private double generateRandomNumber() {
-        return lowerBound + RANDOM.nextDouble() * (upperBound - lowerBound);
+        return lowerBound + random.nextDouble() * (upperBound - lowerBound);
     }
 }
@@ -0,0 +1,36 @@
+package network.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+final class BinaryFiles {
+
+    private BinaryFiles() {
+    }
+
+    // Written to a temporary file that then replaces the old one, so a crash never leaves a half written file behind.
+    static void writeAtomically(Path path, ByteBuffer contents) throws IOException {
+        var temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (var channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // The mapping stays valid after the channel is closed.
+    static ByteBuffer mapReadOnly(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
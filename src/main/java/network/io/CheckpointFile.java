@@ -0,0 +1,176 @@
+package network.io;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+// The state of a fit that is still in progress, in one little-endian file:
+//
+//   int magic ("SNNC"), int version, int iteration
+//   int optimizer name length, UTF-8 optimizer name
+//   int hyperparameter count, double every hyperparameter
+//   int parameter array count, int length of every parameter array
+//   int optimizer state array count, int length of every optimizer state array
+//   padding up to a multiple of 8 bytes
+//   double every parameter array, then every optimizer state array
+//
+// Parameters are in the order the optimizers get them: weights and then biases of every layer.
+public final class CheckpointFile {
+
+    private static final int MAGIC = 'S' | 'N' << 8 | 'N' << 16 | 'C' << 24;
+    private static final int VERSION = 2;
+
+    private final int iteration;
+    private final String optimizerName;
+    private final double[] hyperparameters;
+    private final double[][] parameters;
+    private final double[][] optimizerState;
+
+    private CheckpointFile(int iteration, String optimizerName, double[] hyperparameters, double[][] parameters, double[][] optimizerState) {
+        this.iteration = iteration;
+        this.optimizerName = optimizerName;
+        this.hyperparameters = hyperparameters;
+        this.parameters = parameters;
+        this.optimizerState = optimizerState;
+    }
+
+    public int getIteration() {
+        return iteration;
+    }
+
+    public String getOptimizerName() {
+        return optimizerName;
+    }
+
+    public double[] getHyperparameters() {
+        return hyperparameters;
+    }
+
+    public double[][] getParameters() {
+        return parameters;
+    }
+
+    public double[][] getOptimizerState() {
+        return optimizerState;
+    }
+
+    public static void write(Path path, int iteration, String optimizerName, double[] hyperparameters,
+                             double[][] parameters, double[][] optimizerState) throws IOException {
+        var name = optimizerName.getBytes(StandardCharsets.UTF_8);
+        var headerSize = 7 * Integer.BYTES + name.length + hyperparameters.length * Double.BYTES
+                + (parameters.length + optimizerState.length) * Integer.BYTES;
+        var valuesOffset = (headerSize + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+        var size = valuesOffset + (countValues(parameters) + countValues(optimizerState)) * Double.BYTES;
+        var buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(iteration);
+        buffer.putInt(name.length).put(name);
+        buffer.putInt(hyperparameters.length);
+        for (var hyperparameter : hyperparameters) {
+            buffer.putDouble(hyperparameter);
+        }
+        putLengths(buffer, parameters);
+        putLengths(buffer, optimizerState);
+
+        var values = buffer.position(valuesOffset).asDoubleBuffer();
+        for (var array : parameters) {
+            values.put(array);
+        }
+        for (var array : optimizerState) {
+            values.put(array);
+        }
+
+        BinaryFiles.writeAtomically(path, buffer.rewind());
+    }
+
+    public static CheckpointFile read(Path path) throws IOException {
+        var buffer = BinaryFiles.mapReadOnly(path).order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            if (buffer.getInt() != MAGIC)
+                throw new IOException("File '" + path + "' is not a checkpoint.");
+
+            var version = buffer.getInt();
+            if (version != VERSION)
+                throw new IOException("Checkpoint '" + path + "' has unsupported version " + version + ".");
+
+            var iteration = buffer.getInt();
+            var optimizerName = getString(buffer);
+            var hyperparameters = getDoubles(buffer);
+            var parameters = allocate(buffer);
+            var optimizerState = allocate(buffer);
+
+            var valuesOffset = (buffer.position() + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+            if (valuesOffset + (countValues(parameters) + countValues(optimizerState)) * Double.BYTES != buffer.limit())
+                throw new IOException("Checkpoint '" + path + "' does not match the size of its arrays.");
+
+            var values = buffer.position(valuesOffset).asDoubleBuffer();
+            for (var array : parameters) {
+                values.get(array);
+            }
+            for (var array : optimizerState) {
+                values.get(array);
+            }
+
+            return new CheckpointFile(iteration, optimizerName, hyperparameters, parameters, optimizerState);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException exception) {
+            throw new IOException("Checkpoint '" + path + "' is corrupt.", exception);
+        }
+    }
+
+    private static void putLengths(ByteBuffer buffer, double[][] arrays) {
+        buffer.putInt(arrays.length);
+
+        for (var array : arrays) {
+            buffer.putInt(array.length);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        var length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) throw new BufferUnderflowException();
+
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static double[] getDoubles(ByteBuffer buffer) {
+        var count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Double.BYTES) throw new BufferUnderflowException();
+
+        var values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = buffer.getDouble();
+        }
+
+        return values;
+    }
+
+    private static double[][] allocate(ByteBuffer buffer) {
+        var count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) throw new BufferUnderflowException();
+
+        var arrays = new double[count][];
+        for (int i = 0; i < count; i++) {
+            var length = buffer.getInt();
+            if (length < 0 || length > buffer.limit() / Double.BYTES) throw new BufferUnderflowException();
+            arrays[i] = new double[length];
+        }
+
+        return arrays;
+    }
+
+    private static long countValues(double[][] arrays) {
+        var count = 0L;
+
+        for (var array : arrays) {
+            count += array.length;
+        }
+
+        return count;
+    }
+}
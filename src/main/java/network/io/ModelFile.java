@@ -0,0 +1,285 @@
+package network.io;
+
+import math.Matrix;
+import math.Vector;
+import network.NeuralNetwork;
+import network.activation.ActivationFunction;
+import network.activation.Approximation;
+import network.activation.LeakyRelu;
+import network.activation.Relu;
+import network.activation.Sigmoid;
+import network.activation.Tanh;
+import network.initializers.WeightInitializer;
+import network.loss.LossFunction;
+import network.loss.MeanSquaredError;
+import network.loss.SoftmaxCrossEntropy;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// A trained network in one little-endian file:
+//
+//   int magic ("SNNM"), int version, int offset of the weights
+//   int layer count, int size of every layer
+//   string activation function, string approximation, double activation parameter
+//   string loss function
+//   int label count, string every label
+//   padding up to a multiple of 8 bytes
+//   double weights of every layer, row after row, then double biases of every layer
+//
+// A string is an int byte count followed by its UTF-8 bytes. The file is read through a read-only mapping, so loading
+// costs no more than copying the weights out of the page cache, which every process that loads the same file shares.
+public final class ModelFile {
+
+    private static final int MAGIC = 'S' | 'N' << 8 | 'N' << 16 | 'M' << 24;
+    private static final int VERSION = 1;
+
+    private static final String SIGMOID = "Sigmoid";
+    private static final String TANH = "Tanh";
+    private static final String RELU = "ReLU";
+    private static final String LEAKY_RELU = "Leaky ReLU";
+
+    private static final String MEAN_SQUARED_ERROR = "Mean squared error";
+    private static final String SOFTMAX_CROSS_ENTROPY = "Softmax cross-entropy";
+
+    private final NeuralNetwork neuralNetwork;
+    private final List<String> labels;
+
+    private ModelFile(NeuralNetwork neuralNetwork, List<String> labels) {
+        this.neuralNetwork = neuralNetwork;
+        this.labels = labels;
+    }
+
+    public NeuralNetwork getNeuralNetwork() {
+        return neuralNetwork;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    // =============================================================================================
+    //                                       Writing
+    // =============================================================================================
+
+    public static void write(Path path, NeuralNetwork network, List<String> labels) throws IOException {
+        var layers = network.getLayers();
+        var activation = network.getActivation();
+        var strings = new ArrayList<byte[]>();
+        strings.add(encode(getActivationName(activation)));
+        strings.add(encode(getApproximation(activation).name()));
+        strings.add(encode(getLossName(network.getLoss())));
+
+        for (var label : labels) {
+            strings.add(encode(label));
+        }
+
+        var headerSize = 4 * Integer.BYTES + layers.length * Integer.BYTES + Double.BYTES + Integer.BYTES;
+        for (var string : strings) {
+            headerSize += Integer.BYTES + string.length;
+        }
+
+        var weightsOffset = (headerSize + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+        var buffer = ByteBuffer.allocate(Math.toIntExact(weightsOffset + countParameters(layers) * Double.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(weightsOffset).putInt(layers.length);
+        for (var layer : layers) {
+            buffer.putInt(layer);
+        }
+
+        putString(buffer, strings.get(0));
+        putString(buffer, strings.get(1));
+        buffer.putDouble(getActivationParameter(activation));
+        putString(buffer, strings.get(2));
+        buffer.putInt(labels.size());
+
+        for (int i = 3; i < strings.size(); i++) {
+            putString(buffer, strings.get(i));
+        }
+
+        var parameters = buffer.position(weightsOffset).asDoubleBuffer();
+        for (var weights : network.getWeights()) {
+            parameters.put(weights.getValues());
+        }
+        for (var biases : network.getBiases()) {
+            parameters.put(biases.getValues());
+        }
+
+        BinaryFiles.writeAtomically(path, buffer.rewind());
+    }
+
+    private static String getActivationName(ActivationFunction activation) {
+        if (activation instanceof Sigmoid) return SIGMOID;
+        if (activation instanceof Tanh) return TANH;
+        if (activation instanceof LeakyRelu) return LEAKY_RELU;
+        if (activation instanceof Relu) return RELU;
+        throw new IllegalArgumentException("Activation function " + activation.getClass().getSimpleName() + " cannot be saved.");
+    }
+
+    private static Approximation getApproximation(ActivationFunction activation) {
+        if (activation instanceof Sigmoid) return ((Sigmoid) activation).getApproximation();
+        if (activation instanceof Tanh) return ((Tanh) activation).getApproximation();
+        return Approximation.EXACT;
+    }
+
+    private static double getActivationParameter(ActivationFunction activation) {
+        return activation instanceof LeakyRelu ? ((LeakyRelu) activation).getSlope() : 0;
+    }
+
+    private static String getLossName(LossFunction loss) {
+        if (loss instanceof MeanSquaredError) return MEAN_SQUARED_ERROR;
+        if (loss instanceof SoftmaxCrossEntropy) return SOFTMAX_CROSS_ENTROPY;
+        throw new IllegalArgumentException("Loss function " + loss.getClass().getSimpleName() + " cannot be saved.");
+    }
+
+    private static byte[] encode(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] string) {
+        buffer.putInt(string.length).put(string);
+    }
+
+    // =============================================================================================
+    //                                       Reading
+    // =============================================================================================
+
+    public static ModelFile read(Path path) throws IOException {
+        var buffer = BinaryFiles.mapReadOnly(path).order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            return read(path, buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException exception) {
+            throw new IOException("Model file '" + path + "' is corrupt.", exception);
+        }
+    }
+
+    private static ModelFile read(Path path, ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC)
+            throw new IOException("File '" + path + "' is not a model file.");
+
+        var version = buffer.getInt();
+        if (version != VERSION)
+            throw new IOException("Model file '" + path + "' has unsupported version " + version + ".");
+
+        var weightsOffset = buffer.getInt();
+        var layerCount = buffer.getInt();
+
+        // Checked before allocating, so a corrupt count cannot allocate more than the file could possibly hold.
+        if (layerCount > buffer.remaining() / Integer.BYTES) throw new BufferUnderflowException();
+
+        if (layerCount < 2)
+            throw new IOException("Model file '" + path + "' must define at least 2 layers.");
+
+        var layers = new int[layerCount];
+
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = buffer.getInt();
+            if (layers[i] < 1) throw new IOException("Model file '" + path + "' defines an empty layer.");
+        }
+
+        var activationName = getString(buffer);
+        var approximation = Approximation.valueOf(getString(buffer));
+        var activation = createActivation(activationName, approximation, buffer.getDouble());
+        var loss = createLoss(getString(buffer));
+
+        var labels = new ArrayList<String>();
+        for (int i = 0, count = buffer.getInt(); i < count; i++) {
+            labels.add(getString(buffer));
+        }
+
+        if (weightsOffset < buffer.position() || (long) weightsOffset + countParameters(layers) * Double.BYTES != buffer.limit())
+            throw new IOException("Model file '" + path + "' does not match the size of its layers.");
+
+        var parameters = buffer.position(weightsOffset).asDoubleBuffer();
+        var network = new NeuralNetwork(new MappedParameters(parameters), activation, loss, layers);
+        return new ModelFile(network, List.copyOf(labels));
+    }
+
+    private static ActivationFunction createActivation(String name, Approximation approximation, double parameter) {
+        switch (name) {
+            case SIGMOID:
+                return new Sigmoid(approximation);
+            case TANH:
+                return new Tanh(approximation);
+            case RELU:
+                return new Relu();
+            case LEAKY_RELU:
+                return new LeakyRelu(parameter);
+            default:
+                throw new IllegalArgumentException("Unknown activation function '" + name + "'.");
+        }
+    }
+
+    private static LossFunction createLoss(String name) {
+        switch (name) {
+            case MEAN_SQUARED_ERROR:
+                return new MeanSquaredError();
+            case SOFTMAX_CROSS_ENTROPY:
+                return new SoftmaxCrossEntropy();
+            default:
+                throw new IllegalArgumentException("Unknown loss function '" + name + "'.");
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        var length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) throw new BufferUnderflowException();
+
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // A long, so the layers of a corrupt file cannot overflow the count into a size that happens to match.
+    private static long countParameters(int[] layers) {
+        var count = 0L;
+
+        for (int layer = 1; layer < layers.length; layer++) {
+            count += (long) layers[layer] * layers[layer - 1] + layers[layer];
+        }
+
+        return count;
+    }
+
+    // Copies the weights and biases straight out of the mapped file into the network.
+    private static final class MappedParameters implements WeightInitializer {
+
+        private final DoubleBuffer parameters;
+
+        MappedParameters(DoubleBuffer parameters) {
+            this.parameters = parameters;
+        }
+
+        @Override
+        public void initializeWeights(Matrix[] weights, int[] layers) {
+            for (int i = 0, offset = 0; i < weights.length; i++) {
+                weights[i] = Matrix.zero(layers[i + 1], layers[i]);
+                parameters.get(offset, weights[i].getValues());
+                offset += layers[i + 1] * layers[i];
+            }
+        }
+
+        @Override
+        public void initializeBiases(Vector[] biases, int[] layers) {
+            var offset = 0;
+
+            for (int layer = 1; layer < layers.length; layer++) {
+                offset += layers[layer] * layers[layer - 1];
+            }
+
+            for (int layer = 1; layer < layers.length; layer++) {
+                biases[layer - 1] = Vector.zero(layers[layer]);
+                parameters.get(offset, biases[layer - 1].getValues());
+                offset += layers[layer];
+            }
+        }
+    }
+}
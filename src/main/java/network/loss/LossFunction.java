@@ -0,0 +1,17 @@
+package network.loss;
+
+import network.activation.ActivationFunction;
+
+// Decides how the output layer turns its weighted inputs into outputs and how far those outputs are from the targets.
+// Samples are given as a slice of an array that starts at the offset, so the rows of a block are handled in place.
+public interface LossFunction {
+
+    // Replaces the weighted inputs of the output layer with the outputs of the network.
+    void activate(ActivationFunction activation, double[] values, int offset, int length);
+
+    double calculateLoss(double[] outputs, int offset, double[] targets);
+
+    // Writes the error of every output neuron, the negative derivative of the loss with respect to the neuron's
+    // weighted input, to the same slice of the errors and returns the loss.
+    double calculateErrors(ActivationFunction activation, double[] outputs, int offset, double[] targets, double[] errors);
+}
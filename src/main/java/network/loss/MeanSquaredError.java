@@ -0,0 +1,38 @@
+package network.loss;
+
+import network.activation.ActivationFunction;
+
+// Half of the squared distance, so that the error of a neuron is just the difference scaled by the derivative.
+public class MeanSquaredError implements LossFunction {
+
+    @Override
+    public void activate(ActivationFunction activation, double[] values, int offset, int length) {
+        activation.applyInPlace(values, offset, length);
+    }
+
+    @Override
+    public double calculateLoss(double[] outputs, int offset, double[] targets) {
+        var squaredError = 0.0;
+
+        for (int i = 0; i < targets.length; i++) {
+            var delta = targets[i] - outputs[offset + i];
+            squaredError += delta * delta;
+        }
+
+        return squaredError / 2;
+    }
+
+    @Override
+    public double calculateErrors(ActivationFunction activation, double[] outputs, int offset, double[] targets, double[] errors) {
+        var squaredError = 0.0;
+
+        for (int i = 0; i < targets.length; i++) {
+            var delta = targets[i] - outputs[offset + i];
+            errors[offset + i] = delta;
+            squaredError += delta * delta;
+        }
+
+        activation.derivativeFromOutput(outputs, offset, targets.length, errors);
+        return squaredError / 2;
+    }
+}
@@ -0,0 +1,51 @@
+package network.loss;
+
+import network.activation.ActivationFunction;
+
+// Softmax outputs with the cross-entropy loss, meant for one-hot targets. Softmax ignores the network's activation
+// function, and the error of a neuron reduces to the plain difference, which does not vanish when an output saturates.
+public class SoftmaxCrossEntropy implements LossFunction {
+
+    @Override
+    public void activate(ActivationFunction activation, double[] values, int offset, int length) {
+        // Shifting by the maximum keeps every exponent at most 0, so none of them overflows.
+        var max = Double.NEGATIVE_INFINITY;
+
+        for (int i = offset; i < offset + length; i++) {
+            max = Math.max(max, values[i]);
+        }
+
+        var sum = 0.0;
+
+        for (int i = offset; i < offset + length; i++) {
+            values[i] = Math.exp(values[i] - max);
+            sum += values[i];
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            values[i] /= sum;
+        }
+    }
+
+    @Override
+    public double calculateLoss(double[] outputs, int offset, double[] targets) {
+        var loss = 0.0;
+
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] != 0) {
+                loss -= targets[i] * Math.log(Math.max(outputs[offset + i], Double.MIN_VALUE));
+            }
+        }
+
+        return loss;
+    }
+
+    @Override
+    public double calculateErrors(ActivationFunction activation, double[] outputs, int offset, double[] targets, double[] errors) {
+        for (int i = 0; i < targets.length; i++) {
+            errors[offset + i] = targets[i] - outputs[offset + i];
+        }
+
+        return calculateLoss(outputs, offset, targets);
+    }
+}
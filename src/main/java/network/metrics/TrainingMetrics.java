@@ -0,0 +1,177 @@
+package network.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+// Collects where the time of a fit goes, so it can be watched through JMX while training. A network only records into
+// it while fitting; the phase times come from several threads at once when training is parallel.
+public final class TrainingMetrics implements TrainingMetricsMXBean {
+
+    private final LongAdder forwardNanos = new LongAdder();
+    private final LongAdder backpropagationNanos = new LongAdder();
+    private final LongAdder deltaAccumulationNanos = new LongAdder();
+    private final LongAdder weightUpdateNanos = new LongAdder();
+    private final LongAdder errorCalculationNanos = new LongAdder();
+
+    private volatile boolean isFitting;
+    private volatile long startTime;
+    private volatile long finishTime;
+    private volatile int startIteration;
+
+    private volatile int iteration;
+    private volatile long samples;
+    private volatile double error = Double.NaN;
+    private volatile double learningRate = Double.NaN;
+
+    private volatile long fittingThreadId;
+    private volatile long startAllocatedBytes;
+    private volatile long finishAllocatedBytes;
+
+    // Called on the fitting thread, whose allocations are measured from now on. A resumed fit starts past zero.
+    public void start(int iteration) {
+        forwardNanos.reset();
+        backpropagationNanos.reset();
+        deltaAccumulationNanos.reset();
+        weightUpdateNanos.reset();
+        errorCalculationNanos.reset();
+
+        startIteration = iteration;
+        this.iteration = iteration;
+        samples = 0;
+        error = Double.NaN;
+        learningRate = Double.NaN;
+
+        fittingThreadId = Thread.currentThread().getId();
+        startAllocatedBytes = getThreadAllocatedBytes(fittingThreadId);
+        startTime = System.nanoTime();
+        isFitting = true;
+    }
+
+    // Called on the fitting thread, which may end right after the fit.
+    public void finish() {
+        finishAllocatedBytes = getThreadAllocatedBytes(fittingThreadId);
+        finishTime = System.nanoTime();
+        isFitting = false;
+    }
+
+    // Samples are counted from the start of the fit. Full batch methods choose their own steps, so they have no
+    // learning rate and pass NaN.
+    public void recordIteration(int iteration, long samples, double error, double learningRate) {
+        this.iteration = iteration;
+        this.samples = samples;
+        this.error = error;
+        this.learningRate = learningRate;
+    }
+
+    public void addForwardNanos(long nanos) {
+        forwardNanos.add(nanos);
+    }
+
+    public void addBackpropagationNanos(long nanos) {
+        backpropagationNanos.add(nanos);
+    }
+
+    public void addDeltaAccumulationNanos(long nanos) {
+        deltaAccumulationNanos.add(nanos);
+    }
+
+    public void addWeightUpdateNanos(long nanos) {
+        weightUpdateNanos.add(nanos);
+    }
+
+    public void addErrorCalculationNanos(long nanos) {
+        errorCalculationNanos.add(nanos);
+    }
+
+    @Override
+    public boolean isFitting() {
+        return isFitting;
+    }
+
+    @Override
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public long getSamples() {
+        return samples;
+    }
+
+    @Override
+    public double getIterationsPerSecond() {
+        return (iteration - startIteration) / getElapsedSeconds();
+    }
+
+    @Override
+    public double getSamplesPerSecond() {
+        return samples / getElapsedSeconds();
+    }
+
+    @Override
+    public double getError() {
+        return error;
+    }
+
+    @Override
+    public double getLearningRate() {
+        return learningRate;
+    }
+
+    @Override
+    public long getForwardNanos() {
+        return forwardNanos.sum();
+    }
+
+    @Override
+    public long getBackpropagationNanos() {
+        return backpropagationNanos.sum();
+    }
+
+    @Override
+    public long getDeltaAccumulationNanos() {
+        return deltaAccumulationNanos.sum();
+    }
+
+    @Override
+    public long getWeightUpdateNanos() {
+        return weightUpdateNanos.sum();
+    }
+
+    @Override
+    public long getErrorCalculationNanos() {
+        return errorCalculationNanos.sum();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        if (startAllocatedBytes < 0) return -1;
+
+        var allocatedBytes = isFitting ? getThreadAllocatedBytes(fittingThreadId) : finishAllocatedBytes;
+        return allocatedBytes < 0 ? -1 : allocatedBytes - startAllocatedBytes;
+    }
+
+    @Override
+    public double getAllocatedBytesPerSecond() {
+        var allocatedBytes = getAllocatedBytes();
+        return allocatedBytes < 0 ? Double.NaN : allocatedBytes / getElapsedSeconds();
+    }
+
+    private double getElapsedSeconds() {
+        if (startTime == 0) return Double.NaN;
+
+        var endTime = isFitting ? System.nanoTime() : finishTime;
+        return Math.max(1, endTime - startTime) / 1e9;
+    }
+
+    private static long getThreadAllocatedBytes(long threadId) {
+        var threads = ManagementFactory.getThreadMXBean();
+
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            var hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+            if (hotSpotThreads.isThreadAllocatedMemorySupported()) return hotSpotThreads.getThreadAllocatedBytes(threadId);
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,27 @@
+package network.metrics;
+
+// Management interface of the training metrics, as seen through JMX. Everything describes the fit that is running, or
+// the last one if no fit is running.
+public interface TrainingMetricsMXBean {
+    boolean isFitting();
+
+    int getIteration();
+    long getSamples();
+    double getIterationsPerSecond();
+    double getSamplesPerSecond();
+
+    double getError();
+    double getLearningRate();
+
+    // Summed over every thread that takes part in a phase, so with several training threads they can add up to more
+    // than the time that has passed.
+    long getForwardNanos();
+    long getBackpropagationNanos();
+    long getDeltaAccumulationNanos();
+    long getWeightUpdateNanos();
+    long getErrorCalculationNanos();
+
+    // Allocated by the fitting thread only, -1 if the JVM cannot measure it.
+    long getAllocatedBytes();
+    double getAllocatedBytesPerSecond();
+}
@@ -0,0 +1,84 @@
+package network.optimizers;
+
+import math.LinearAlgebraBackend;
+import network.Parameters;
+
+public class AdamOptimizer implements Optimizer {
+
+    private final double firstMomentDecay;
+    private final double secondMomentDecay;
+    private final double epsilon;
+
+    private double[][] firstMoments;
+    private double[][] secondMoments;
+
+    // Powers of the first and second moment decays for the bias correction, updated once per step instead of calling
+    // Math.pow. Kept in an array, so they are part of the state like the moments.
+    private double[] decayPowers;
+
+    public AdamOptimizer(double firstMomentDecay, double secondMomentDecay, double epsilon) {
+        if (firstMomentDecay < 0 || firstMomentDecay >= 1)
+            throw new IllegalArgumentException("First moment decay must be in range [0, 1).");
+
+        if (secondMomentDecay < 0 || secondMomentDecay >= 1)
+            throw new IllegalArgumentException("Second moment decay must be in range [0, 1).");
+
+        if (epsilon <= 0)
+            throw new IllegalArgumentException("Epsilon must be positive.");
+
+        this.firstMomentDecay = firstMomentDecay;
+        this.secondMomentDecay = secondMomentDecay;
+        this.epsilon = epsilon;
+    }
+
+    @Override
+    public void initialize(double[][] parameters, LinearAlgebraBackend backend) {
+        firstMoments = Parameters.createZeroed(parameters);
+        secondMoments = Parameters.createZeroed(parameters);
+        decayPowers = new double[] {1, 1};
+    }
+
+    @Override
+    public void update(double[][] parameters, double[][] directions, double learningRate) {
+        decayPowers[0] *= firstMomentDecay;
+        decayPowers[1] *= secondMomentDecay;
+
+        var firstMomentCorrection = 1 / (1 - decayPowers[0]);
+        var secondMomentCorrection = 1 / (1 - decayPowers[1]);
+
+        for (int i = 0; i < parameters.length; i++) {
+            var parameter = parameters[i];
+            var direction = directions[i];
+            var firstMoment = firstMoments[i];
+            var secondMoment = secondMoments[i];
+
+            for (int j = 0; j < parameter.length; j++) {
+                firstMoment[j] = firstMomentDecay * firstMoment[j] + (1 - firstMomentDecay) * direction[j];
+                secondMoment[j] = secondMomentDecay * secondMoment[j] + (1 - secondMomentDecay) * direction[j] * direction[j];
+
+                var correctedFirstMoment = firstMoment[j] * firstMomentCorrection;
+                var correctedSecondMoment = secondMoment[j] * secondMomentCorrection;
+                parameter[j] += learningRate * correctedFirstMoment / (Math.sqrt(correctedSecondMoment) + epsilon);
+            }
+        }
+    }
+
+    @Override
+    public double[][] getState() {
+        var state = new double[2 * firstMoments.length + 1][];
+        System.arraycopy(firstMoments, 0, state, 0, firstMoments.length);
+        System.arraycopy(secondMoments, 0, state, firstMoments.length, secondMoments.length);
+        state[state.length - 1] = decayPowers;
+        return state;
+    }
+
+    @Override
+    public String getName() {
+        return "Adam";
+    }
+
+    @Override
+    public double[] getHyperparameters() {
+        return new double[] {firstMomentDecay, secondMomentDecay, epsilon};
+    }
+}
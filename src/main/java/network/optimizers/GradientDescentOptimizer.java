@@ -0,0 +1,25 @@
+package network.optimizers;
+
+import math.LinearAlgebraBackend;
+
+public class GradientDescentOptimizer implements Optimizer {
+
+    private LinearAlgebraBackend backend;
+
+    @Override
+    public void initialize(double[][] parameters, LinearAlgebraBackend backend) {
+        this.backend = backend;
+    }
+
+    @Override
+    public void update(double[][] parameters, double[][] directions, double learningRate) {
+        for (int i = 0; i < parameters.length; i++) {
+            backend.scaleAndAdd(learningRate, directions[i], parameters[i], parameters[i].length);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Gradient descent";
+    }
+}
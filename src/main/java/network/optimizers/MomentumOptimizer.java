@@ -0,0 +1,51 @@
+package network.optimizers;
+
+import math.LinearAlgebraBackend;
+import network.Parameters;
+
+public class MomentumOptimizer implements Optimizer {
+
+    private final double momentum;
+    private double[][] velocities;
+
+    public MomentumOptimizer(double momentum) {
+        if (momentum < 0 || momentum >= 1)
+            throw new IllegalArgumentException("Momentum must be in range [0, 1).");
+
+        this.momentum = momentum;
+    }
+
+    @Override
+    public void initialize(double[][] parameters, LinearAlgebraBackend backend) {
+        velocities = Parameters.createZeroed(parameters);
+    }
+
+    @Override
+    public void update(double[][] parameters, double[][] directions, double learningRate) {
+        for (int i = 0; i < parameters.length; i++) {
+            var parameter = parameters[i];
+            var direction = directions[i];
+            var velocity = velocities[i];
+
+            for (int j = 0; j < parameter.length; j++) {
+                velocity[j] = momentum * velocity[j] + learningRate * direction[j];
+                parameter[j] += velocity[j];
+            }
+        }
+    }
+
+    @Override
+    public double[][] getState() {
+        return velocities;
+    }
+
+    @Override
+    public String getName() {
+        return "Momentum";
+    }
+
+    @Override
+    public double[] getHyperparameters() {
+        return new double[] {momentum};
+    }
+}
@@ -0,0 +1,54 @@
+package network.optimizers;
+
+import math.LinearAlgebraBackend;
+import network.Parameters;
+
+// Nesterov momentum in the form that only needs the gradient at the current parameters: the step looks ahead by
+// applying the momentum of the freshly updated velocity on top of the plain gradient step.
+public class NesterovOptimizer implements Optimizer {
+
+    private final double momentum;
+    private double[][] velocities;
+
+    public NesterovOptimizer(double momentum) {
+        if (momentum < 0 || momentum >= 1)
+            throw new IllegalArgumentException("Momentum must be in range [0, 1).");
+
+        this.momentum = momentum;
+    }
+
+    @Override
+    public void initialize(double[][] parameters, LinearAlgebraBackend backend) {
+        velocities = Parameters.createZeroed(parameters);
+    }
+
+    @Override
+    public void update(double[][] parameters, double[][] directions, double learningRate) {
+        for (int i = 0; i < parameters.length; i++) {
+            var parameter = parameters[i];
+            var direction = directions[i];
+            var velocity = velocities[i];
+
+            for (int j = 0; j < parameter.length; j++) {
+                var step = learningRate * direction[j];
+                velocity[j] = momentum * velocity[j] + step;
+                parameter[j] += momentum * velocity[j] + step;
+            }
+        }
+    }
+
+    @Override
+    public double[][] getState() {
+        return velocities;
+    }
+
+    @Override
+    public String getName() {
+        return "Nesterov momentum";
+    }
+
+    @Override
+    public double[] getHyperparameters() {
+        return new double[] {momentum};
+    }
+}
@@ -0,0 +1,28 @@
+package network.optimizers;
+
+import math.LinearAlgebraBackend;
+
+// Parameters and directions are given per array, one array for the weights and one for the biases of every layer.
+public interface Optimizer {
+
+    // Called at the start of every fit, before the first update. Optimizers that run their updates through kernels run
+    // them on the backend of the fit.
+    void initialize(double[][] parameters, LinearAlgebraBackend backend);
+
+    // Directions point downhill, they are the negative error gradients summed over the batch.
+    void update(double[][] parameters, double[][] directions, double learningRate);
+
+    // Everything the optimizer carries from one update to the next, valid after initialize. Copying saved values back
+    // into these arrays continues from where the optimizer was when they were saved.
+    default double[][] getState() {
+        return new double[0][];
+    }
+
+    // Together with the hyperparameters, identifies the optimizer a checkpoint was saved with. A checkpoint only resumes
+    // with an optimizer of the same name and hyperparameters, the learning rate is not one of them.
+    String getName();
+
+    default double[] getHyperparameters() {
+        return new double[0];
+    }
+}
@@ -0,0 +1,56 @@
+package network.optimizers;
+
+import math.LinearAlgebraBackend;
+import network.Parameters;
+
+public class RmsPropOptimizer implements Optimizer {
+
+    private final double decay;
+    private final double epsilon;
+    private double[][] meanSquares;
+
+    public RmsPropOptimizer(double decay, double epsilon) {
+        if (decay < 0 || decay >= 1)
+            throw new IllegalArgumentException("Decay must be in range [0, 1).");
+
+        if (epsilon <= 0)
+            throw new IllegalArgumentException("Epsilon must be positive.");
+
+        this.decay = decay;
+        this.epsilon = epsilon;
+    }
+
+    @Override
+    public void initialize(double[][] parameters, LinearAlgebraBackend backend) {
+        meanSquares = Parameters.createZeroed(parameters);
+    }
+
+    @Override
+    public void update(double[][] parameters, double[][] directions, double learningRate) {
+        for (int i = 0; i < parameters.length; i++) {
+            var parameter = parameters[i];
+            var direction = directions[i];
+            var meanSquare = meanSquares[i];
+
+            for (int j = 0; j < parameter.length; j++) {
+                meanSquare[j] = decay * meanSquare[j] + (1 - decay) * direction[j] * direction[j];
+                parameter[j] += learningRate * direction[j] / (Math.sqrt(meanSquare[j]) + epsilon);
+            }
+        }
+    }
+
+    @Override
+    public double[][] getState() {
+        return meanSquares;
+    }
+
+    @Override
+    public String getName() {
+        return "RMSProp";
+    }
+
+    @Override
+    public double[] getHyperparameters() {
+        return new double[] {decay, epsilon};
+    }
+}
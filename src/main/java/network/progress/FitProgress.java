@@ -0,0 +1,27 @@
+package network.progress;
+
+// Progress of a fit after one iteration, as published by a fit progress publisher.
+public final class FitProgress {
+
+    private final int iteration;
+    private final double error;
+    private final double samplesPerSecond;
+
+    public FitProgress(int iteration, double error, double samplesPerSecond) {
+        this.iteration = iteration;
+        this.error = error;
+        this.samplesPerSecond = samplesPerSecond;
+    }
+
+    public int getIteration() {
+        return iteration;
+    }
+
+    public double getError() {
+        return error;
+    }
+
+    public double getSamplesPerSecond() {
+        return samplesPerSecond;
+    }
+}
@@ -0,0 +1,154 @@
+package network.progress;
+
+import network.NeuralNetworkFitUpdateListener;
+
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Publishes the progress of every iteration of the fits it listens to. The fitting thread never waits for a
+// subscriber: whatever arrives while a subscriber has no outstanding demand replaces the progress it has not received
+// yet, so a slow subscriber always gets the latest progress once it asks for more. Subscribers that request
+// Long.MAX_VALUE before the fit starts receive every single iteration, on the fitting thread. A progress object is
+// only created for a subscriber that asked for one, so an iteration nobody is waiting for does not allocate anything.
+public final class FitProgressPublisher implements Flow.Publisher<FitProgress>, NeuralNetworkFitUpdateListener, AutoCloseable {
+
+    // Replaced as a whole on every change, so the fitting thread iterates over it without an iterator.
+    private volatile ProgressSubscription[] subscriptions = new ProgressSubscription[0];
+    private volatile boolean isClosed;
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super FitProgress> subscriber) {
+        var subscription = new ProgressSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        addSubscription(subscription);
+
+        // Closing may have missed the subscription that was just added, completing it twice does no harm.
+        if (isClosed) subscription.complete();
+    }
+
+    @Override
+    public void onFitUpdate(int iteration, double error, double samplesPerSecond) {
+        for (var subscription : subscriptions) {
+            subscription.offer(iteration, error, samplesPerSecond);
+        }
+    }
+
+    // Subscribers are completed once they have received the progress they are still missing.
+    @Override
+    public void close() {
+        isClosed = true;
+
+        for (var subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    private synchronized void addSubscription(ProgressSubscription subscription) {
+        var added = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+        added[added.length - 1] = subscription;
+        subscriptions = added;
+    }
+
+    private synchronized void removeSubscription(ProgressSubscription subscription) {
+        subscriptions = Arrays.stream(subscriptions)
+                .filter(other -> other != subscription)
+                .toArray(ProgressSubscription[]::new);
+    }
+
+    private final class ProgressSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super FitProgress> subscriber;
+
+        // The latest progress that was not delivered yet, kept as plain values so that offering it does not allocate.
+        private final Object latestLock = new Object();
+        private boolean hasLatest;
+        private int latestIteration;
+        private double latestError;
+        private double latestSamplesPerSecond;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        // Only the thread that bumps this from zero delivers, so the subscriber is never called concurrently.
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        private volatile boolean isCompleted;
+        private volatile boolean isCancelled;
+
+        ProgressSubscription(Flow.Subscriber<? super FitProgress> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested number of progress updates must be positive."));
+                return;
+            }
+
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            removeSubscription(this);
+        }
+
+        void offer(int iteration, double error, double samplesPerSecond) {
+            synchronized (latestLock) {
+                hasLatest = true;
+                latestIteration = iteration;
+                latestError = error;
+                latestSamplesPerSecond = samplesPerSecond;
+            }
+
+            drain();
+        }
+
+        void complete() {
+            isCompleted = true;
+            drain();
+        }
+
+        private void drain() {
+            if (pendingDrains.getAndIncrement() != 0) return;
+
+            var drains = 1;
+
+            do {
+                while (!isCancelled && requested.get() > 0) {
+                    var progress = takeLatest();
+                    if (progress == null) break;
+
+                    if (requested.get() != Long.MAX_VALUE) requested.decrementAndGet();
+                    subscriber.onNext(progress);
+                }
+
+                if (isCompleted && !isCancelled && !hasLatest()) {
+                    cancel();
+                    subscriber.onComplete();
+                }
+
+                drains = pendingDrains.addAndGet(-drains);
+            } while (drains != 0);
+        }
+
+        private FitProgress takeLatest() {
+            synchronized (latestLock) {
+                if (!hasLatest) return null;
+
+                hasLatest = false;
+                return new FitProgress(latestIteration, latestError, latestSamplesPerSecond);
+            }
+        }
+
+        private boolean hasLatest() {
+            synchronized (latestLock) {
+                return hasLatest;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package network.progress;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Asks for at most one item per period and hands it to the consumer, so however fast items are published, the
+// consumer sees them at a steady rate. The consumer is called either on the publishing thread or on the sampling
+// thread, but never on both at once.
+public final class SampledSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final long periodNanos;
+    private final Consumer<? super T> consumer;
+    private final Runnable onComplete;
+
+    private ScheduledExecutorService sampler;
+    private volatile boolean isAwaitingItem;
+
+    public SampledSubscriber(double frequency, Consumer<? super T> consumer) {
+        this(frequency, consumer, () -> {});
+    }
+
+    public SampledSubscriber(double frequency, Consumer<? super T> consumer, Runnable onComplete) {
+        if (frequency <= 0)
+            throw new IllegalArgumentException("Sampling frequency must be positive.");
+
+        this.periodNanos = (long) (1e9 / frequency);
+        this.consumer = consumer;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        sampler = Executors.newSingleThreadScheduledExecutor(SampledSubscriber::createThread);
+
+        // Demand never piles up while nothing is published, otherwise it would all be used up in one burst later.
+        sampler.scheduleAtFixedRate(() -> {
+            if (isAwaitingItem) return;
+            isAwaitingItem = true;
+            subscription.request(1);
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onNext(T item) {
+        isAwaitingItem = false;
+        consumer.accept(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        sampler.shutdown();
+        System.err.println("Sampled subscription failed: " + throwable.getMessage());
+    }
+
+    @Override
+    public void onComplete() {
+        sampler.shutdown();
+        onComplete.run();
+    }
+
+    private static Thread createThread(Runnable runnable) {
+        var thread = new Thread(runnable, "Sampled subscriber");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
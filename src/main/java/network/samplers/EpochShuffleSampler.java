@@ -0,0 +1,56 @@
+package network.samplers;
+
+import java.util.SplittableRandom;
+
+// Every sample is used exactly once per epoch. Only the permutation of the indices is shuffled, and only when an epoch
+// starts, so a batch costs time proportional to its own size rather than to the size of the dataset.
+public class EpochShuffleSampler implements Sampler {
+
+    private final SplittableRandom random;
+
+    private int[] permutation;
+    private int position;
+
+    public EpochShuffleSampler() {
+        this(new SplittableRandom());
+    }
+
+    public EpochShuffleSampler(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void reset(int datasetSize) {
+        if (permutation == null || permutation.length != datasetSize) {
+            permutation = new int[datasetSize];
+        }
+
+        for (int i = 0; i < datasetSize; i++) {
+            permutation[i] = i;
+        }
+
+        shuffle(permutation);
+        position = 0;
+    }
+
+    @Override
+    public void sample(int[] sampleIndices, int count) {
+        for (int i = 0; i < count; i++) {
+            if (position == permutation.length) {
+                shuffle(permutation);
+                position = 0;
+            }
+
+            sampleIndices[i] = permutation[position++];
+        }
+    }
+
+    private void shuffle(int[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int r = random.nextInt(i + 1);
+            var temp = array[i];
+            array[i] = array[r];
+            array[r] = temp;
+        }
+    }
+}
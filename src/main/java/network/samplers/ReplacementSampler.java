@@ -0,0 +1,31 @@
+package network.samplers;
+
+import java.util.SplittableRandom;
+
+// Draws every sample independently, so a sample can appear more than once in the same batch.
+public class ReplacementSampler implements Sampler {
+
+    private final SplittableRandom random;
+
+    private int datasetSize;
+
+    public ReplacementSampler() {
+        this(new SplittableRandom());
+    }
+
+    public ReplacementSampler(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void reset(int datasetSize) {
+        this.datasetSize = datasetSize;
+    }
+
+    @Override
+    public void sample(int[] sampleIndices, int count) {
+        for (int i = 0; i < count; i++) {
+            sampleIndices[i] = random.nextInt(datasetSize);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package network.samplers;
+
+public interface Sampler {
+
+    // Called at the start of every fit.
+    void reset(int datasetSize);
+
+    // Fills the first count elements with the indices of the samples of the next batch.
+    void sample(int[] sampleIndices, int count);
+}
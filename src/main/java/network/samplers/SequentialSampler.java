@@ -0,0 +1,22 @@
+package network.samplers;
+
+// Walks through the dataset in its own order, wrapping around at the end.
+public class SequentialSampler implements Sampler {
+
+    private int datasetSize;
+    private int nextIndex;
+
+    @Override
+    public void reset(int datasetSize) {
+        this.datasetSize = datasetSize;
+        nextIndex = 0;
+    }
+
+    @Override
+    public void sample(int[] sampleIndices, int count) {
+        for (int i = 0; i < count; i++) {
+            sampleIndices[i] = nextIndex;
+            nextIndex = (nextIndex + 1) % datasetSize;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package network.schedules;
+
+public class ConstantSchedule implements LearningRateSchedule {
+
+    @Override
+    public double getLearningRate(double baseLearningRate, int iteration, double previousError) {
+        return baseLearningRate;
+    }
+}
@@ -0,0 +1,29 @@
+package network.schedules;
+
+// Anneals the learning rate along half a cosine wave over the given number of iterations and then keeps the minimum.
+public class CosineSchedule implements LearningRateSchedule {
+
+    private final int length;
+    private final double minimumFactor;
+
+    public CosineSchedule(int length, double minimumFactor) {
+        if (length < 1)
+            throw new IllegalArgumentException("Length must be at least 1.");
+
+        if (minimumFactor < 0 || minimumFactor > 1)
+            throw new IllegalArgumentException("Minimum factor must be in range [0, 1].");
+
+        this.length = length;
+        this.minimumFactor = minimumFactor;
+    }
+
+    @Override
+    public double getLearningRate(double baseLearningRate, int iteration, double previousError) {
+        var progress = Math.min(iteration - 1, length) / (double) length;
+        return baseLearningRate * anneal(progress, minimumFactor);
+    }
+
+    static double anneal(double progress, double minimumFactor) {
+        return minimumFactor + (1 - minimumFactor) * 0.5 * (1 + Math.cos(Math.PI * progress));
+    }
+}
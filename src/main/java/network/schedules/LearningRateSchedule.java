@@ -0,0 +1,11 @@
+package network.schedules;
+
+public interface LearningRateSchedule {
+
+    // Called at the start of every fit.
+    default void reset() {
+    }
+
+    // Learning rate for the given iteration, given the error reported after the previous one (NaN before the first).
+    double getLearningRate(double baseLearningRate, int iteration, double previousError);
+}
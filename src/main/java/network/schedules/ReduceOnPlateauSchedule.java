@@ -0,0 +1,50 @@
+package network.schedules;
+
+// Multiplies the learning rate by the factor whenever the error has not improved for the given number of iterations.
+// With an error evaluation interval, the patience should be longer than the interval.
+public class ReduceOnPlateauSchedule implements LearningRateSchedule {
+
+    // Improvements smaller than this fraction of the best error do not count.
+    private static final double RELATIVE_THRESHOLD = 1e-4;
+
+    private final int patience;
+    private final double factor;
+
+    private double currentFactor;
+    private double bestError;
+    private int iterationsWithoutImprovement;
+
+    public ReduceOnPlateauSchedule(int patience, double factor) {
+        if (patience < 1)
+            throw new IllegalArgumentException("Patience must be at least 1.");
+
+        if (factor <= 0 || factor >= 1)
+            throw new IllegalArgumentException("Factor must be in range (0, 1).");
+
+        this.patience = patience;
+        this.factor = factor;
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        currentFactor = 1;
+        bestError = Double.POSITIVE_INFINITY;
+        iterationsWithoutImprovement = 0;
+    }
+
+    @Override
+    public double getLearningRate(double baseLearningRate, int iteration, double previousError) {
+        if (Double.isNaN(previousError)) return baseLearningRate * currentFactor;
+
+        if (previousError < bestError * (1 - RELATIVE_THRESHOLD)) {
+            bestError = previousError;
+            iterationsWithoutImprovement = 0;
+        } else if (++iterationsWithoutImprovement >= patience) {
+            currentFactor *= factor;
+            iterationsWithoutImprovement = 0;
+        }
+
+        return baseLearningRate * currentFactor;
+    }
+}
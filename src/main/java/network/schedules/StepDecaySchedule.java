@@ -0,0 +1,24 @@
+package network.schedules;
+
+// Multiplies the learning rate by the factor after every step of the given number of iterations.
+public class StepDecaySchedule implements LearningRateSchedule {
+
+    private final int stepLength;
+    private final double factor;
+
+    public StepDecaySchedule(int stepLength, double factor) {
+        if (stepLength < 1)
+            throw new IllegalArgumentException("Step length must be at least 1.");
+
+        if (factor <= 0 || factor > 1)
+            throw new IllegalArgumentException("Factor must be in range (0, 1].");
+
+        this.stepLength = stepLength;
+        this.factor = factor;
+    }
+
+    @Override
+    public double getLearningRate(double baseLearningRate, int iteration, double previousError) {
+        return baseLearningRate * Math.pow(factor, (iteration - 1) / stepLength);
+    }
+}
@@ -0,0 +1,46 @@
+package network.schedules;
+
+// Cosine annealing that jumps back to the full learning rate at the end of every period, every period being longer
+// than the previous one by the given multiplier.
+public class WarmRestartsSchedule implements LearningRateSchedule {
+
+    private final int initialPeriod;
+    private final double periodMultiplier;
+    private final double minimumFactor;
+
+    private int periodStart;
+    private int period;
+
+    public WarmRestartsSchedule(int initialPeriod, double periodMultiplier, double minimumFactor) {
+        if (initialPeriod < 1)
+            throw new IllegalArgumentException("Initial period must be at least 1.");
+
+        if (periodMultiplier < 1)
+            throw new IllegalArgumentException("Period multiplier must be at least 1.");
+
+        if (minimumFactor < 0 || minimumFactor > 1)
+            throw new IllegalArgumentException("Minimum factor must be in range [0, 1].");
+
+        this.initialPeriod = initialPeriod;
+        this.periodMultiplier = periodMultiplier;
+        this.minimumFactor = minimumFactor;
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        periodStart = 1;
+        period = initialPeriod;
+    }
+
+    @Override
+    public double getLearningRate(double baseLearningRate, int iteration, double previousError) {
+        while (iteration - periodStart >= period) {
+            periodStart += period;
+            period = (int) Math.min(Integer.MAX_VALUE, Math.ceil(period * periodMultiplier));
+        }
+
+        var progress = (iteration - periodStart) / (double) period;
+        return baseLearningRate * CosineSchedule.anneal(progress, minimumFactor);
+    }
+}
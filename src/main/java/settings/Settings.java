@@ -8,23 +8,43 @@ public interface Settings {
     // Training
     String TRAINING_METHOD = "TRAINING_METHOD";
     String MINI_BATCH_SIZE = "MINI_BATCH_SIZE";
+    String TRAINING_THREADS = "TRAINING_THREADS";
+    String SAMPLING_METHOD = "SAMPLING_METHOD";
+    String OPTIMIZATION_METHOD = "OPTIMIZATION_METHOD";
+    String FULL_BATCH_ALGORITHM = "FULL_BATCH_ALGORITHM";
+    String ERROR_EVALUATION_MODE = "ERROR_EVALUATION_MODE";
+    String ERROR_EVALUATION_INTERVAL = "ERROR_EVALUATION_INTERVAL";
     String HIDDEN_LAYERS_DEFINITION = "HIDDEN_LAYERS_DEFINITION";
+    String ACTIVATION_FUNCTION = "ACTIVATION_FUNCTION";
+    String LOSS_FUNCTION = "LOSS_FUNCTION";
+    String TRAINING_ACTIVATION_APPROXIMATION = "TRAINING_ACTIVATION_APPROXIMATION";
     String LEARNING_RATE = "LEARNING_RATE";
+    String LEARNING_RATE_SCHEDULE = "LEARNING_RATE_SCHEDULE";
+    String LEARNING_RATE_SCHEDULE_PERIOD = "LEARNING_RATE_SCHEDULE_PERIOD";
     String MINIMUM_ACCEPTABLE_ERROR = "MINIMUM_ACCEPTABLE_ERROR";
     String MAXIMUM_NUMBER_OF_ITERATIONS = "MAXIMUM_NUMBER_OF_ITERATIONS";
+    String VALIDATION_SPLIT = "VALIDATION_SPLIT";
+    String EARLY_STOPPING_PATIENCE = "EARLY_STOPPING_PATIENCE";
     String ADDITIONAL_PERMUTATIONS_PER_SAMPLE = "ADDITIONAL_PERMUTATIONS_PER_SAMPLE";
+    String RANDOM_SEED = "RANDOM_SEED";
+    String CHECKPOINT_INTERVAL = "CHECKPOINT_INTERVAL";
+    String CHECKPOINT_PERIOD = "CHECKPOINT_PERIOD";
+    String SNAPSHOT_INTERVAL = "SNAPSHOT_INTERVAL";
     String WEIGHTS_DRAWING_MODE = "WEIGHTS_DRAWING_MODE";
+    String LINEAR_ALGEBRA_BACKEND = "LINEAR_ALGEBRA_BACKEND";
 
     // Settings
     String NUMBER_OF_REPRESENTATIVE_POINTS = "NUMBER_OF_REPRESENTATIVE_POINTS";
     String SYMBOL_SAVE_DIRECTORY = "SYMBOL_SAVE_DIRECTORY";
     String SYMBOL_LOAD_DIRECTORY = "SYMBOL_LOAD_DIRECTORY";
+    String MODEL_FILE = "MODEL_FILE";
     String SHOW_REPRESENTATIVE_POINTS_WHILE_DATA_COLLECTING = "SHOW_REPRESENTATIVE_POINTS_WHILE_DATA_COLLECTING";
     String SHOW_CONTINUOUS_CURVE_INDEX_IN_SYMBOL_VIEW = "SHOW_CONTINUOUS_CURVE_INDEX_IN_SYMBOL_VIEW";
     String SHOW_REPRESENTATIVE_POINTS_IN_SYMBOL_VIEW = "SHOW_REPRESENTATIVE_POINTS_IN_SYMBOL_VIEW";
     String ANIMATE_SYMBOL_IN_SYMBOL_VIEW = "ANIMATE_SYMBOL_IN_SYMBOL_VIEW";
     String UPDATE_HISTOGRAM_WHILE_DRAWING = "UPDATE_HISTOGRAM_WHILE_DRAWING";
     String SHOW_REPRESENTATIVE_POINTS_WHILE_PREDICTING = "SHOW_REPRESENTATIVE_POINTS_WHILE_PREDICTING";
+    String PREDICTING_ACTIVATION_APPROXIMATION = "PREDICTING_ACTIVATION_APPROXIMATION";
     String USE_RANDOM_WEIGHT_COLORS = "USE_RANDOM_WEIGHT_COLORS";
 
     String getStringProperty(String property);
@@ -24,22 +24,42 @@ public class SettingsImpl implements Settings {
 
         DEFAULT_PROPERTY_MAP.put(TRAINING_METHOD, "Mini-batch");
         DEFAULT_PROPERTY_MAP.put(MINI_BATCH_SIZE, "10");
+        DEFAULT_PROPERTY_MAP.put(TRAINING_THREADS, "1");
+        DEFAULT_PROPERTY_MAP.put(SAMPLING_METHOD, "Shuffled epochs");
+        DEFAULT_PROPERTY_MAP.put(OPTIMIZATION_METHOD, "Gradient descent");
+        DEFAULT_PROPERTY_MAP.put(FULL_BATCH_ALGORITHM, "Optimizer");
+        DEFAULT_PROPERTY_MAP.put(ERROR_EVALUATION_MODE, "Full");
+        DEFAULT_PROPERTY_MAP.put(ERROR_EVALUATION_INTERVAL, "1");
         DEFAULT_PROPERTY_MAP.put(HIDDEN_LAYERS_DEFINITION, "10");
+        DEFAULT_PROPERTY_MAP.put(ACTIVATION_FUNCTION, "Sigmoid");
+        DEFAULT_PROPERTY_MAP.put(LOSS_FUNCTION, "Mean squared error");
+        DEFAULT_PROPERTY_MAP.put(TRAINING_ACTIVATION_APPROXIMATION, "Exact");
         DEFAULT_PROPERTY_MAP.put(LEARNING_RATE, "0.05");
+        DEFAULT_PROPERTY_MAP.put(LEARNING_RATE_SCHEDULE, "Constant");
+        DEFAULT_PROPERTY_MAP.put(LEARNING_RATE_SCHEDULE_PERIOD, "1000");
         DEFAULT_PROPERTY_MAP.put(MINIMUM_ACCEPTABLE_ERROR, "0.01");
         DEFAULT_PROPERTY_MAP.put(MAXIMUM_NUMBER_OF_ITERATIONS, "10000");
+        DEFAULT_PROPERTY_MAP.put(VALIDATION_SPLIT, "0");
+        DEFAULT_PROPERTY_MAP.put(EARLY_STOPPING_PATIENCE, "1000");
         DEFAULT_PROPERTY_MAP.put(ADDITIONAL_PERMUTATIONS_PER_SAMPLE, "0");
+        DEFAULT_PROPERTY_MAP.put(RANDOM_SEED, "Random");
+        DEFAULT_PROPERTY_MAP.put(CHECKPOINT_INTERVAL, "0");
+        DEFAULT_PROPERTY_MAP.put(CHECKPOINT_PERIOD, "60");
+        DEFAULT_PROPERTY_MAP.put(SNAPSHOT_INTERVAL, "100");
         DEFAULT_PROPERTY_MAP.put(WEIGHTS_DRAWING_MODE, "All");
+        DEFAULT_PROPERTY_MAP.put(LINEAR_ALGEBRA_BACKEND, "Auto");
 
         DEFAULT_PROPERTY_MAP.put(NUMBER_OF_REPRESENTATIVE_POINTS, "30");
         DEFAULT_PROPERTY_MAP.put(SYMBOL_SAVE_DIRECTORY, "./symbols");
         DEFAULT_PROPERTY_MAP.put(SYMBOL_LOAD_DIRECTORY, "./symbols");
+        DEFAULT_PROPERTY_MAP.put(MODEL_FILE, "./model.snn");
         DEFAULT_PROPERTY_MAP.put(SHOW_REPRESENTATIVE_POINTS_WHILE_DATA_COLLECTING, "false");
         DEFAULT_PROPERTY_MAP.put(SHOW_CONTINUOUS_CURVE_INDEX_IN_SYMBOL_VIEW, "true");
         DEFAULT_PROPERTY_MAP.put(SHOW_REPRESENTATIVE_POINTS_IN_SYMBOL_VIEW, "false");
         DEFAULT_PROPERTY_MAP.put(ANIMATE_SYMBOL_IN_SYMBOL_VIEW, "true");
         DEFAULT_PROPERTY_MAP.put(UPDATE_HISTOGRAM_WHILE_DRAWING, "true");
         DEFAULT_PROPERTY_MAP.put(SHOW_REPRESENTATIVE_POINTS_WHILE_PREDICTING, "false");
+        DEFAULT_PROPERTY_MAP.put(PREDICTING_ACTIVATION_APPROXIMATION, "Exact");
         DEFAULT_PROPERTY_MAP.put(USE_RANDOM_WEIGHT_COLORS, "false");
     }
 
@@ -1,11 +1,10 @@
 package structures;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 public class Dataset {
 
-    private static final Random RANDOM = new Random();
-
     private final double[][] X;
     private final double[][] Y;
 
@@ -40,15 +39,23 @@ public class Dataset {
         return Y[index];
     }
 
-    public void shuffle() {
+    public void shuffle(SplittableRandom random) {
         for (int i = size() - 1; i > 0; i--) {
-            int r = RANDOM.nextInt(i + 1);
+            int r = random.nextInt(i + 1);
             swapMatrixRows(X, i, r);
             swapMatrixRows(Y, i, r);
         }
     }
 
-    public Dataset expand(int additionalPermutationsPerSample) {
+    // Entries from (inclusive) to (exclusive), sharing the rows with this dataset.
+    public Dataset subset(int from, int to) {
+        if (from < 0 || to > size() || from >= to)
+            throw new IllegalArgumentException("Invalid subset range [" + from + ", " + to + ") of a dataset of size " + size() + ".");
+
+        return new Dataset(Arrays.copyOfRange(X, from, to), Arrays.copyOfRange(Y, from, to));
+    }
+
+    public Dataset expand(int additionalPermutationsPerSample, SplittableRandom random) {
         if (additionalPermutationsPerSample < 0)
             throw new IllegalArgumentException("Additional permutations per sample cannot be a negative number.");
 
@@ -64,7 +71,7 @@ public class Dataset {
 
             for (int j = 1; j <= additionalPermutationsPerSample; j++) {
                 var permutedSampleIndex = originalSampleIndex + j;
-                expandedX[permutedSampleIndex] = getPermutedCopy(X[i]);
+                expandedX[permutedSampleIndex] = getPermutedCopy(X[i], random);
                 expandedY[permutedSampleIndex] = Y[i];
             }
         }
@@ -72,15 +79,15 @@ public class Dataset {
         return new Dataset(expandedX, expandedY);
     }
 
-    private static double[] getPermutedCopy(double[] array) {
+    private static double[] getPermutedCopy(double[] array, SplittableRandom random) {
         var permuted = array.clone();
-        shuffleArray(permuted);
+        shuffleArray(permuted, random);
         return permuted;
     }
 
-    private static void shuffleArray(double[] array) {
+    private static void shuffleArray(double[] array, SplittableRandom random) {
         for (int i = array.length - 1; i > 0; i--) {
-            int r = RANDOM.nextInt(i + 1);
+            int r = random.nextInt(i + 1);
             swapArrayElements(array, i, r);
         }
     }
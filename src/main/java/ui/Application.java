@@ -54,6 +54,8 @@ public class Application extends JFrame {
         });
 
         initGUI();
+        trainingModel.loadSavedModel();
+        trainingModel.checkForCheckpoint();
     }
 
     private void initGUI() {
@@ -1,6 +1,9 @@
 package ui.panels.predicting;
 
+import network.InferenceModel;
 import network.NeuralNetwork;
+import network.WeightSnapshot;
+import network.activation.Approximation;
 import network.holder.NeuralNetworkChangeListener;
 import network.holder.NeuralNetworkHolder;
 import settings.Settings;
@@ -9,7 +12,6 @@ import structures.Point;
 import ui.panels.ModelListener;
 import ui.symbolCanvas.SymbolCanvasFinishListener;
 import ui.symbolCanvas.SymbolCanvasUpdateListener;
-import util.DatasetLoader;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +23,11 @@ public class PredictingModel implements SettingsListener, NeuralNetworkChangeLis
 
     private ModelListener<PredictingState> listener;
 
+    // Built from the latest weight snapshot of the network and rebuilt only once a newer one is published, so
+    // predicting never touches the buffers of the network being fitted.
+    private InferenceModel inferenceModel;
+    private WeightSnapshot inferenceSnapshot;
+
     private int numberOfRepresentativePoints;
     private boolean isDrawingEnabled;
 
@@ -38,6 +45,11 @@ public class PredictingModel implements SettingsListener, NeuralNetworkChangeLis
 
     @Override
     public void onPropertyChange(String property) {
+        if (property.equals(Settings.PREDICTING_ACTIVATION_APPROXIMATION)) {
+            inferenceSnapshot = null;
+            return;
+        }
+
         if (!property.equals(Settings.SHOW_REPRESENTATIVE_POINTS_WHILE_PREDICTING)) return;
 
         if (listener == null) return;
@@ -74,13 +86,11 @@ public class PredictingModel implements SettingsListener, NeuralNetworkChangeLis
 
     private void updateHistogram(List<List<Point>> partedCurve) {
         var network = neuralNetworkHolder.getNeuralNetwork();
+        var model = getInferenceModel(network);
         var sample = convertPartedCurveToSample(partedCurve);
-        var prediction = network.predict(sample);
+        var prediction = model.predict(sample);
 
-        var identifiers = DatasetLoader.getIdentifiers(
-                settings.getStringProperty(Settings.SYMBOL_LOAD_DIRECTORY),
-                network.getInputNeuronCount() / 2
-        ).toArray(new String[0]);
+        var identifiers = neuralNetworkHolder.getLabels().toArray(new String[0]);
 
         listener.onNextState(new PredictingState.Histogram(identifiers, prediction));
         listener.onNextState(new PredictingState.Message(prediction.length == 1 ?
@@ -89,6 +99,17 @@ public class PredictingModel implements SettingsListener, NeuralNetworkChangeLis
         ));
     }
 
+    private InferenceModel getInferenceModel(NeuralNetwork network) {
+        var snapshot = network.getSnapshot();
+
+        if (snapshot != inferenceSnapshot) {
+            inferenceModel = snapshot.freeze(Approximation.from(settings.getStringProperty(Settings.PREDICTING_ACTIVATION_APPROXIMATION)));
+            inferenceSnapshot = snapshot;
+        }
+
+        return inferenceModel;
+    }
+
     private static double[] convertPartedCurveToSample(List<List<Point>> partedCurve) {
         var pointCount = 0;
         for (var part : partedCurve) {
@@ -1,5 +1,6 @@
 package ui.panels.settings;
 
+import network.activation.Approximation;
 import settings.Settings;
 import ui.panels.ModelListener;
 import util.UserInputValidator;
@@ -15,9 +16,11 @@ public class SettingsModel {
     private boolean showContinuousCurveIndexInSymbolView;
     private boolean showRepresentativePointsInSymbolView;
     private String symbolLoadDirectory;
+    private String modelFile;
     private boolean useRandomWeightColors;
     private boolean showRepresentativePointsWhilePredicting;
     private boolean updateHistogramWhileDrawing;
+    private Approximation predictingActivationApproximation;
 
     private final Settings settings;
     private ModelListener<SettingsState> listener;
@@ -31,9 +34,11 @@ public class SettingsModel {
         showContinuousCurveIndexInSymbolView = settings.getBooleanProperty(Settings.SHOW_CONTINUOUS_CURVE_INDEX_IN_SYMBOL_VIEW);
         showRepresentativePointsInSymbolView = settings.getBooleanProperty(Settings.SHOW_REPRESENTATIVE_POINTS_IN_SYMBOL_VIEW);
         symbolLoadDirectory = settings.getStringProperty(Settings.SYMBOL_LOAD_DIRECTORY);
+        modelFile = settings.getStringProperty(Settings.MODEL_FILE);
         useRandomWeightColors = settings.getBooleanProperty(Settings.USE_RANDOM_WEIGHT_COLORS);
         showRepresentativePointsWhilePredicting = settings.getBooleanProperty(Settings.SHOW_REPRESENTATIVE_POINTS_WHILE_PREDICTING);
         updateHistogramWhileDrawing = settings.getBooleanProperty(Settings.UPDATE_HISTOGRAM_WHILE_DRAWING);
+        predictingActivationApproximation = Approximation.from(settings.getStringProperty(Settings.PREDICTING_ACTIVATION_APPROXIMATION));
     }
 
     public void setListener(ModelListener<SettingsState> listener) {
@@ -45,7 +50,7 @@ public class SettingsModel {
     }
 
     private void notifyTrainingSectionChanged() {
-        listener.onNextState(new SettingsState.TrainingSection(isSymbolLoadDirectoryValid()));
+        listener.onNextState(new SettingsState.TrainingSection(isSymbolLoadDirectoryValid(), isModelFileValid()));
     }
 
     // =============================================================================================
@@ -80,6 +85,10 @@ public class SettingsModel {
         return symbolLoadDirectory;
     }
 
+    public String getModelFile() {
+        return modelFile;
+    }
+
     public boolean isUseRandomWeightColors() {
         return useRandomWeightColors;
     }
@@ -92,6 +101,10 @@ public class SettingsModel {
         return updateHistogramWhileDrawing;
     }
 
+    public Approximation getPredictingActivationApproximation() {
+        return predictingActivationApproximation;
+    }
+
     // =============================================================================================
     //                                       Setters
     // =============================================================================================
@@ -145,6 +158,16 @@ public class SettingsModel {
         notifyTrainingSectionChanged();
     }
 
+    public void setModelFile(String modelFile) {
+        this.modelFile = modelFile;
+
+        if (isModelFileValid()) {
+            settings.setStringProperty(Settings.MODEL_FILE, modelFile);
+        }
+
+        notifyTrainingSectionChanged();
+    }
+
     public void setUseRandomWeightColors(boolean useRandomWeightColors) {
         this.useRandomWeightColors = useRandomWeightColors;
         settings.setBooleanProperty(Settings.USE_RANDOM_WEIGHT_COLORS, useRandomWeightColors);
@@ -160,6 +183,11 @@ public class SettingsModel {
         settings.setBooleanProperty(Settings.UPDATE_HISTOGRAM_WHILE_DRAWING, updateHistogramWhileDrawing);
     }
 
+    public void setPredictingActivationApproximation(Approximation predictingActivationApproximation) {
+        this.predictingActivationApproximation = predictingActivationApproximation;
+        settings.setStringProperty(Settings.PREDICTING_ACTIVATION_APPROXIMATION, predictingActivationApproximation.toString());
+    }
+
     private boolean isNumberOfRepresentativePointsValid() {
         return UserInputValidator.assertIntegerInRange(numberOfRepresentativePoints, MIN_REPRESENTATIVE_POINTS, MAX_REPRESENTATIVE_POINTS);
     }
@@ -171,4 +199,8 @@ public class SettingsModel {
     private boolean isSymbolLoadDirectoryValid() {
         return !symbolLoadDirectory.isBlank();
     }
+
+    private boolean isModelFileValid() {
+        return !modelFile.isBlank();
+    }
 }
@@ -1,5 +1,6 @@
 package ui.panels.settings;
 
+import network.activation.Approximation;
 import ui.Colors;
 import ui.panels.ModelListener;
 import ui.SimpleDocumentListener;
@@ -45,6 +46,9 @@ public class SettingsPanel extends JPanel implements ModelListener<SettingsState
     private final JLabel symbolLoadDirectoryLabel = createLabel("Symbol load directory:");
     private final JTextField symbolLoadDirectoryField = new JTextField();
 
+    private final JLabel modelFileLabel = createLabel("Model file (saved after training, loaded on startup):");
+    private final JTextField modelFileField = new JTextField();
+
     private final JLabel useRandomWeightColorsLabel = createLabel("Use random weight colors:");
     private final JCheckBox useRandomWeightColorsCheckbox = new JCheckBox();
 
@@ -54,6 +58,9 @@ public class SettingsPanel extends JPanel implements ModelListener<SettingsState
     private final JLabel updateHistogramWhileDrawingLabel = createLabel("Update histogram while drawing:");
     private final JCheckBox updateHistogramWhileDrawingCheckbox = new JCheckBox();
 
+    private final JLabel predictingActivationApproximationLabel = createLabel("Activation approximation (sigmoid, tanh):");
+    private final JComboBox<Approximation> predictingActivationApproximationComboBox = new JComboBox<>();
+
     private final SettingsModel model;
 
     public SettingsPanel(SettingsModel model) {
@@ -71,9 +78,12 @@ public class SettingsPanel extends JPanel implements ModelListener<SettingsState
         showRepresentativePointsInSymbolViewCheckbox.setSelected(model.isShowRepresentativePointsInSymbolView());
         animateSymbolInSymbolViewCheckbox.setSelected(model.animateSymbolInSymbolView());
         symbolLoadDirectoryField.setText(model.getSymbolLoadDirectory());
+        modelFileField.setText(model.getModelFile());
         useRandomWeightColorsCheckbox.setSelected(model.isUseRandomWeightColors());
         showRepresentativePointsWhilePredictingCheckbox.setSelected(model.isShowRepresentativePointsWhilePredicting());
         updateHistogramWhileDrawingCheckbox.setSelected(model.isUpdateHistogramWhileDrawing());
+
+        predictingActivationApproximationComboBox.setSelectedItem(model.getPredictingActivationApproximation());
     }
 
     private JPanel createAllSectionsPanel() {
@@ -157,12 +167,18 @@ public class SettingsPanel extends JPanel implements ModelListener<SettingsState
         panel.add(symbolLoadDirectoryLabel);
         panel.add(symbolLoadDirectoryField);
 
+        panel.add(modelFileLabel);
+        panel.add(modelFileField);
+
         panel.add(useRandomWeightColorsLabel);
         panel.add(useRandomWeightColorsCheckbox);
 
         symbolLoadDirectoryField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setSymbolLoadDirectory(symbolLoadDirectoryField.getText()));
 
+        modelFileField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setModelFile(modelFileField.getText()));
+
         useRandomWeightColorsCheckbox.addItemListener(e ->
                 model.setUseRandomWeightColors(e.getStateChange() == ItemEvent.SELECTED));
 
@@ -180,12 +196,25 @@ public class SettingsPanel extends JPanel implements ModelListener<SettingsState
         panel.add(updateHistogramWhileDrawingLabel);
         panel.add(updateHistogramWhileDrawingCheckbox);
 
+        for (var approximation : Approximation.values()) {
+            predictingActivationApproximationComboBox.addItem(approximation);
+        }
+
+        panel.add(predictingActivationApproximationLabel);
+        panel.add(predictingActivationApproximationComboBox);
+
         showRepresentativePointsWhilePredictingCheckbox.addItemListener(e ->
                 model.setShowRepresentativePointsWhilePredicting(e.getStateChange() == ItemEvent.SELECTED));
 
         updateHistogramWhileDrawingCheckbox.addItemListener(e ->
                 model.setUpdateHistogramWhileDrawing(e.getStateChange() == ItemEvent.SELECTED));
 
+        predictingActivationApproximationComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setPredictingActivationApproximation((Approximation) e.getItem());
+            }
+        });
+
         return panel;
     }
 
@@ -212,5 +241,6 @@ public class SettingsPanel extends JPanel implements ModelListener<SettingsState
 
     private void renderTrainingSection(SettingsState.TrainingSection state) {
         symbolLoadDirectoryLabel.setForeground(state.isSymbolLoadDirectoryValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+        modelFileLabel.setForeground(state.isModelFileValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
     }
 }
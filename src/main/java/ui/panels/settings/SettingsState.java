@@ -14,9 +14,11 @@ public abstract class SettingsState {
 
     public static class TrainingSection extends SettingsState {
         public final boolean isSymbolLoadDirectoryValid;
+        public final boolean isModelFileValid;
 
-        public TrainingSection(boolean isSymbolLoadDirectoryValid) {
+        public TrainingSection(boolean isSymbolLoadDirectoryValid, boolean isModelFileValid) {
             this.isSymbolLoadDirectoryValid = isSymbolLoadDirectoryValid;
+            this.isModelFileValid = isModelFileValid;
         }
     }
 }
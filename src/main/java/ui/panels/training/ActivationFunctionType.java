@@ -0,0 +1,29 @@
+package ui.panels.training;
+
+public enum ActivationFunctionType {
+    SIGMOID("Sigmoid"),
+    TANH("Tanh"),
+    RELU("ReLU"),
+    LEAKY_RELU("Leaky ReLU");
+
+    private final String name;
+
+    ActivationFunctionType(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static ActivationFunctionType from(String name) {
+        for (var type : values()) {
+            if (type.toString().equals(name)) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific activation function.");
+    }
+}
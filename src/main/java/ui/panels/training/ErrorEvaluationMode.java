@@ -0,0 +1,29 @@
+package ui.panels.training;
+
+public enum ErrorEvaluationMode {
+    FULL("Full"),
+    BACKGROUND("Background"),
+    SAMPLED("Sampled"),
+    MOVING_AVERAGE("Moving average");
+
+    private final String name;
+
+    ErrorEvaluationMode(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static ErrorEvaluationMode from(String name) {
+        for (var mode : values()) {
+            if (mode.toString().equals(name)) {
+                return mode;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific error evaluation mode.");
+    }
+}
@@ -0,0 +1,28 @@
+package ui.panels.training;
+
+public enum FullBatchAlgorithm {
+    OPTIMIZER("Optimizer"),
+    LBFGS("L-BFGS"),
+    RPROP("Rprop");
+
+    private final String name;
+
+    FullBatchAlgorithm(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static FullBatchAlgorithm from(String name) {
+        for (var algorithm : values()) {
+            if (algorithm.toString().equals(name)) {
+                return algorithm;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific full batch algorithm.");
+    }
+}
@@ -0,0 +1,30 @@
+package ui.panels.training;
+
+public enum LearningRateScheduleType {
+    CONSTANT("Constant"),
+    STEP_DECAY("Step decay"),
+    COSINE("Cosine"),
+    WARM_RESTARTS("Warm restarts"),
+    REDUCE_ON_PLATEAU("Reduce on plateau");
+
+    private final String name;
+
+    LearningRateScheduleType(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static LearningRateScheduleType from(String name) {
+        for (var type : values()) {
+            if (type.toString().equals(name)) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific learning rate schedule.");
+    }
+}
@@ -0,0 +1,27 @@
+package ui.panels.training;
+
+public enum LossFunctionType {
+    MEAN_SQUARED_ERROR("Mean squared error"),
+    SOFTMAX_CROSS_ENTROPY("Softmax cross-entropy");
+
+    private final String name;
+
+    LossFunctionType(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static LossFunctionType from(String name) {
+        for (var type : values()) {
+            if (type.toString().equals(name)) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific loss function.");
+    }
+}
@@ -0,0 +1,30 @@
+package ui.panels.training;
+
+public enum OptimizationMethod {
+    GRADIENT_DESCENT("Gradient descent"),
+    MOMENTUM("Momentum"),
+    NESTEROV("Nesterov momentum"),
+    RMS_PROP("RMSProp"),
+    ADAM("Adam");
+
+    private final String name;
+
+    OptimizationMethod(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static OptimizationMethod from(String name) {
+        for (var method : values()) {
+            if (method.toString().equals(name)) {
+                return method;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific optimization method.");
+    }
+}
@@ -0,0 +1,28 @@
+package ui.panels.training;
+
+public enum SamplingMethod {
+    SEQUENTIAL("Sequential"),
+    SHUFFLED_EPOCHS("Shuffled epochs"),
+    WITH_REPLACEMENT("With replacement");
+
+    private final String name;
+
+    SamplingMethod(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static SamplingMethod from(String name) {
+        for (var method : values()) {
+            if (method.toString().equals(name)) {
+                return method;
+            }
+        }
+
+        throw new IllegalArgumentException("Could not convert '" + name + "' to a specific sampling method.");
+    }
+}
@@ -3,7 +3,8 @@ package ui.panels.training;
 public enum TrainingMethod {
     STOCHASTIC("Stochastic"),
     MINI_BATCH("Mini-batch"),
-    BATCH("Batch");
+    BATCH("Batch"),
+    ASYNCHRONOUS("Asynchronous");
 
     private final String name;
 
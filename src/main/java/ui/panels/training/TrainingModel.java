@@ -1,19 +1,68 @@
 package ui.panels.training;
 
+import math.LinearAlgebraBackend;
+import math.LinearAlgebraBackends;
+import network.EarlyStopping;
+import network.FullBatchMethod;
+import network.FitStopReason;
+import network.Checkpointer;
 import network.NeuralNetwork;
+import network.activation.ActivationFunction;
+import network.activation.Approximation;
+import network.activation.LeakyRelu;
+import network.activation.Relu;
 import network.activation.Sigmoid;
+import network.activation.Tanh;
+import network.evaluation.BackgroundErrorEvaluator;
+import network.evaluation.ErrorEvaluator;
+import network.evaluation.FullErrorEvaluator;
+import network.evaluation.MovingAverageErrorEvaluator;
+import network.evaluation.SampledErrorEvaluator;
 import network.holder.NeuralNetworkChangeListener;
+import network.io.CheckpointFile;
+import network.io.ModelFile;
 import network.holder.NeuralNetworkHolder;
 import network.initializers.RandomWeightInitializer;
+import network.loss.LossFunction;
+import network.loss.MeanSquaredError;
+import network.loss.SoftmaxCrossEntropy;
+import network.metrics.TrainingMetrics;
+import network.optimizers.AdamOptimizer;
+import network.optimizers.GradientDescentOptimizer;
+import network.optimizers.MomentumOptimizer;
+import network.optimizers.NesterovOptimizer;
+import network.optimizers.Optimizer;
+import network.optimizers.RmsPropOptimizer;
+import network.progress.FitProgressPublisher;
+import network.progress.SampledSubscriber;
+import network.samplers.EpochShuffleSampler;
+import network.samplers.ReplacementSampler;
+import network.samplers.Sampler;
+import network.samplers.SequentialSampler;
+import network.schedules.ConstantSchedule;
+import network.schedules.CosineSchedule;
+import network.schedules.LearningRateSchedule;
+import network.schedules.ReduceOnPlateauSchedule;
+import network.schedules.StepDecaySchedule;
+import network.schedules.WarmRestartsSchedule;
 import settings.Settings;
 import settings.SettingsListener;
 import structures.Dataset;
 import ui.panels.ModelListener;
 import util.DatasetLoader;
+import util.RandomSource;
 import util.UserInputValidator;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.function.BooleanSupplier;
 
 import static settings.Settings.*;
@@ -22,46 +71,117 @@ import static ui.views.NeuralNetworkView.WeightsDrawingMode;
 public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
 
     private static final String HIDDEN_LAYERS_DEFINITION_SEPARATOR = "x";
+    private static final String AUTOMATIC_LINEAR_ALGEBRA_BACKEND = "Auto";
+    private static final String UNSEEDED_RANDOM_SEED = "Random";
+    private static final String CHECKPOINT_FILE_SUFFIX = ".checkpoint";
+
+    // Every network trained by this model records into the same metrics, registered once under this name.
+    private static final String METRICS_OBJECT_NAME = "network:type=TrainingMetrics";
+
+    // The fit status is sampled at about the refresh rate of the screen, however fast the iterations are.
+    private static final double FIT_STATUS_UPDATES_PER_SECOND = 30;
 
     private static final int MIN_MINI_BATCH_SIZE = 1;
+    private static final int MIN_TRAINING_THREADS = 1;
+    private static final int MIN_ERROR_EVALUATION_INTERVAL = 1;
     private static final double MIN_LEARNING_RATE = 0;
+    private static final int MIN_LEARNING_RATE_SCHEDULE_PERIOD = 1;
     private static final double MIN_ACCEPTABLE_ERROR = 0;
     private static final int MIN_NUMBER_OF_ITERATIONS = 1;
+    private static final double MIN_VALIDATION_SPLIT = 0;
+    private static final double MAX_VALIDATION_SPLIT = 0.5;
+    private static final int MIN_EARLY_STOPPING_PATIENCE = 1;
     private static final int MIN_ADDITIONAL_PERMUTATIONS_PER_SAMPLE = 0;
+    private static final int MIN_CHECKPOINT_INTERVAL = 0;
+    private static final double MIN_CHECKPOINT_PERIOD = 0;
+    private static final int MIN_SNAPSHOT_INTERVAL = 0;
 
     private static final int MIN_NEURONS_IN_HIDDEN_LAYER = 1;
     private static final int MAX_NEURONS_IN_HIDDEN_LAYER = 100;
 
+    private static final int SAMPLED_ERROR_EVALUATION_SAMPLE_COUNT = 1000;
+    private static final double MOVING_AVERAGE_ERROR_SMOOTHING = 0.05;
+
+    private static final double MOMENTUM = 0.9;
+    private static final double RMS_PROP_DECAY = 0.9;
+    private static final double ADAM_FIRST_MOMENT_DECAY = 0.9;
+    private static final double ADAM_SECOND_MOMENT_DECAY = 0.999;
+    private static final double OPTIMIZER_EPSILON = 1e-8;
+
+    private static final double STEP_DECAY_FACTOR = 0.5;
+    private static final double PLATEAU_DECAY_FACTOR = 0.5;
+    private static final double WARM_RESTARTS_PERIOD_MULTIPLIER = 2;
+    private static final double ANNEALING_MINIMUM_FACTOR = 0.01;
+
+    private static final double LEAKY_RELU_SLOPE = 0.01;
+
     private static final double MIN_RANDOM_WEIGHT = -0.5;
     private static final double MAX_RANDOM_WEIGHT = +0.5;
 
     private final List<NeuralNetworkChangeListener> listeners = new ArrayList<>();
+    private final TrainingMetrics metrics = new TrainingMetrics();
 
     private TrainingMethod trainingMethod;
     private String miniBatchSize;
+    private String trainingThreads;
+    private SamplingMethod samplingMethod;
+    private OptimizationMethod optimizationMethod;
+    private FullBatchAlgorithm fullBatchAlgorithm;
+    private ErrorEvaluationMode errorEvaluationMode;
+    private String errorEvaluationInterval;
     private String hiddenLayersDefinition;
+    private ActivationFunctionType activationFunctionType;
+    private Approximation activationApproximation;
+    private LossFunctionType lossFunctionType;
     private String learningRate;
+    private LearningRateScheduleType learningRateScheduleType;
+    private String learningRateSchedulePeriod;
     private String minimumAcceptableError;
     private String maximumNumberOfIterations;
+    private String validationSplit;
+    private String earlyStoppingPatience;
     private String additionalPermutationsPerSample;
+    private String randomSeed;
+    private String checkpointInterval;
+    private String checkpointPeriod;
+    private String snapshotInterval;
     private WeightsDrawingMode weightsDrawingMode;
     private boolean useRandomWeightColors;
 
     private final Settings settings;
     private NeuralNetwork neuralNetwork;
+    private volatile List<String> labels = List.of();
     private ModelListener<TrainingState> listener;
 
     public TrainingModel(Settings settings) {
         this.settings = settings;
         this.settings.addListener(this);
+        registerMetrics();
 
         trainingMethod = TrainingMethod.from(settings.getStringProperty(TRAINING_METHOD));
         miniBatchSize = settings.getStringProperty(MINI_BATCH_SIZE);
+        trainingThreads = settings.getStringProperty(TRAINING_THREADS);
+        samplingMethod = SamplingMethod.from(settings.getStringProperty(SAMPLING_METHOD));
+        optimizationMethod = OptimizationMethod.from(settings.getStringProperty(OPTIMIZATION_METHOD));
+        fullBatchAlgorithm = FullBatchAlgorithm.from(settings.getStringProperty(FULL_BATCH_ALGORITHM));
+        errorEvaluationMode = ErrorEvaluationMode.from(settings.getStringProperty(ERROR_EVALUATION_MODE));
+        errorEvaluationInterval = settings.getStringProperty(ERROR_EVALUATION_INTERVAL);
         hiddenLayersDefinition = settings.getStringProperty(HIDDEN_LAYERS_DEFINITION);
+        activationFunctionType = ActivationFunctionType.from(settings.getStringProperty(ACTIVATION_FUNCTION));
+        activationApproximation = Approximation.from(settings.getStringProperty(TRAINING_ACTIVATION_APPROXIMATION));
+        lossFunctionType = LossFunctionType.from(settings.getStringProperty(LOSS_FUNCTION));
         learningRate = settings.getStringProperty(LEARNING_RATE);
+        learningRateScheduleType = LearningRateScheduleType.from(settings.getStringProperty(LEARNING_RATE_SCHEDULE));
+        learningRateSchedulePeriod = settings.getStringProperty(LEARNING_RATE_SCHEDULE_PERIOD);
         minimumAcceptableError = settings.getStringProperty(MINIMUM_ACCEPTABLE_ERROR);
         maximumNumberOfIterations = settings.getStringProperty(MAXIMUM_NUMBER_OF_ITERATIONS);
+        validationSplit = settings.getStringProperty(VALIDATION_SPLIT);
+        earlyStoppingPatience = settings.getStringProperty(EARLY_STOPPING_PATIENCE);
         additionalPermutationsPerSample = settings.getStringProperty(ADDITIONAL_PERMUTATIONS_PER_SAMPLE);
+        randomSeed = settings.getStringProperty(RANDOM_SEED);
+        checkpointInterval = settings.getStringProperty(CHECKPOINT_INTERVAL);
+        checkpointPeriod = settings.getStringProperty(CHECKPOINT_PERIOD);
+        snapshotInterval = settings.getStringProperty(SNAPSHOT_INTERVAL);
         weightsDrawingMode = WeightsDrawingMode.from(settings.getStringProperty(WEIGHTS_DRAWING_MODE));
         useRandomWeightColors = settings.getBooleanProperty(USE_RANDOM_WEIGHT_COLORS);
     }
@@ -76,51 +196,277 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
             stopTrainingNeuralNetwork();
         }
         else {
-            trainNeuralNetwork();
+            trainNeuralNetwork(null);
         }
     }
 
-    private void trainNeuralNetwork() {
+    // Continues the fit that was interrupted before it could finish. The settings have to describe the same network.
+    public void resumeFromCheckpoint() {
+        try {
+            trainNeuralNetwork(CheckpointFile.read(getCheckpointPath()));
+        } catch (IOException exception) {
+            notifyListenerOnError("Could not load the checkpoint: " + exception.getMessage());
+        }
+    }
+
+    private void trainNeuralNetwork(CheckpointFile checkpoint) {
         new Thread(() -> {
             try {
-                var dataset = DatasetLoader.loadDataset(
+                var loadedDataset = DatasetLoader.loadDataset(
                         settings.getStringProperty(SYMBOL_LOAD_DIRECTORY),
                         settings.getIntProperty(NUMBER_OF_REPRESENTATIVE_POINTS)
-                ).expand(settings.getIntProperty(ADDITIONAL_PERMUTATIONS_PER_SAMPLE));
-
-                neuralNetwork = createNeuralNetwork(dataset);
+                );
+
+                // Every consumer gets its own stream, always split off in this order, so that for example the initial
+                // weights stay the same for a given seed no matter which sampling method is selected.
+                var randomSource = createRandomSource();
+                var initializationRandom = randomSource.split();
+                var shuffleRandom = randomSource.split();
+                var expansionRandom = randomSource.split();
+                var fittingRandom = randomSource.split();
+
+                // Validation samples are split off before expanding, so none of their permutations end up in training.
+                var validationSize = (int) (loadedDataset.size() * Double.parseDouble(validationSplit));
+                if (validationSize > 0) loadedDataset.shuffle(shuffleRandom);
+
+                var dataset = loadedDataset.subset(validationSize, loadedDataset.size())
+                        .expand(settings.getIntProperty(ADDITIONAL_PERMUTATIONS_PER_SAMPLE), expansionRandom);
+                var validationDataset = validationSize > 0 ? loadedDataset.subset(0, validationSize) : null;
+
+                neuralNetwork = createNeuralNetwork(dataset, validationDataset, initializationRandom, fittingRandom);
+                if (checkpoint != null) neuralNetwork.resumeFrom(checkpoint);
+                labels = DatasetLoader.getIdentifiers(
+                        settings.getStringProperty(SYMBOL_LOAD_DIRECTORY),
+                        settings.getIntProperty(NUMBER_OF_REPRESENTATIVE_POINTS)
+                );
+                neuralNetwork.setLinearAlgebraBackend(selectLinearAlgebraBackend(neuralNetwork.getLayers(), getBatchSize(dataset)));
                 listeners.forEach(listener -> listener.onNeuralNetworkChange(neuralNetwork));
 
                 neuralNetwork.addFitStartListener(this::notifyListenerOnTrainButtonState);
-                neuralNetwork.addFitUpdateListener((iteration, error) -> listener.onNextState(new TrainingState.FitStatus(iteration, error)));
-                neuralNetwork.addFitFinishListener(this::notifyListenerOnSettingsState);
-
-                neuralNetwork.fit(dataset);
+                neuralNetwork.addFitFinishListener(this::notifyListenerOnFitFinish);
+
+                try (var progressPublisher = new FitProgressPublisher()) {
+                    var isFullBatch = trainingMethod == TrainingMethod.BATCH;
+                    progressPublisher.subscribe(new SampledSubscriber<>(FIT_STATUS_UPDATES_PER_SECOND, progress -> listener.onNextState(
+                            new TrainingState.FitStatus(
+                                    progress.getIteration(),
+                                    progress.getError(),
+                                    progress.getSamplesPerSecond(),
+                                    isFullBatch ? progress.getSamplesPerSecond() / dataset.size() : Double.NaN
+                            )
+                    )));
+
+                    neuralNetwork.addFitUpdateListener(progressPublisher);
+                    neuralNetwork.fit(dataset);
+                }
+                ModelFile.write(Paths.get(settings.getStringProperty(MODEL_FILE)), neuralNetwork, labels);
+
+                // A fit stopped by the user never finished, so its checkpoint stays to be resumed. A checkpoint this fit
+                // neither resumed from nor overwrote may still belong to another, unfinished fit.
+                var checkpointer = neuralNetwork.getCheckpointer();
+                var finished = neuralNetwork.getStopReason() != FitStopReason.STOPPED_BY_USER;
+                if (finished && (checkpoint != null || checkpointer != null && checkpointer.getWrittenCheckpoints() > 0)) {
+                    Files.deleteIfExists(getCheckpointPath());
+                }
             } catch (Exception exception) {
                 notifyListenerOnError(exception.getMessage());
             }
         }).start();
     }
 
+    // Brings back the network of the last training, so predicting works right after startup.
+    public void loadSavedModel() {
+        var path = Paths.get(settings.getStringProperty(MODEL_FILE));
+        if (Files.notExists(path)) return;
+
+        try {
+            var modelFile = ModelFile.read(path);
+            neuralNetwork = modelFile.getNeuralNetwork();
+            labels = modelFile.getLabels();
+            listeners.forEach(listener -> listener.onNeuralNetworkChange(neuralNetwork));
+        } catch (IOException exception) {
+            notifyListenerOnError("Could not load the saved model: " + exception.getMessage());
+        }
+    }
+
+    // A checkpoint is only left behind by a fit that never finished, so it is offered to be resumed on startup.
+    public void checkForCheckpoint() {
+        var path = getCheckpointPath();
+        if (Files.notExists(path)) return;
+
+        try {
+            listener.onNextState(new TrainingState.CheckpointFound(CheckpointFile.read(path).getIteration()));
+        } catch (IOException exception) {
+            notifyListenerOnError("Could not load the checkpoint: " + exception.getMessage());
+        }
+    }
+
+    private Path getCheckpointPath() {
+        return Paths.get(settings.getStringProperty(MODEL_FILE) + CHECKPOINT_FILE_SUFFIX);
+    }
+
     private void stopTrainingNeuralNetwork() {
         neuralNetwork.stopFitting();
     }
 
-    private NeuralNetwork createNeuralNetwork(Dataset dataset) {
+    private void registerMetrics() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(METRICS_OBJECT_NAME));
+        } catch (JMException exception) {
+            System.err.println("Could not register training metrics: " + exception.getMessage());
+        }
+    }
+
+    private RandomSource createRandomSource() {
+        return randomSeed.equalsIgnoreCase(UNSEEDED_RANDOM_SEED) ? new RandomSource() : new RandomSource(Long.parseLong(randomSeed));
+    }
+
+    private NeuralNetwork createNeuralNetwork(Dataset dataset, Dataset validationDataset, SplittableRandom initializationRandom, SplittableRandom fittingRandom) {
         var network = new NeuralNetwork(
-                new RandomWeightInitializer(MIN_RANDOM_WEIGHT, MAX_RANDOM_WEIGHT),
-                new Sigmoid(),
+                new RandomWeightInitializer(MIN_RANDOM_WEIGHT, MAX_RANDOM_WEIGHT, initializationRandom),
+                createActivationFunction(),
+                createLossFunction(),
                 calculateNetworkLayers(dataset)
         );
 
         network.setLearningRate(Double.parseDouble(learningRate));
+        network.setLearningRateSchedule(createLearningRateSchedule());
         network.setBatchSize(getBatchSize(dataset));
+        network.setParallelism(Integer.parseInt(trainingThreads));
+        network.setSampler(createSampler(fittingRandom.split()));
+        network.setOptimizer(createOptimizer());
+        network.setFullBatchMethod(getFullBatchMethod());
+        network.setAsynchronous(trainingMethod == TrainingMethod.ASYNCHRONOUS);
+        network.setErrorEvaluator(createErrorEvaluator(fittingRandom.split()));
+        network.setRandom(fittingRandom.split());
         network.setMaxIterations(Integer.parseInt(maximumNumberOfIterations));
         network.setMinAcceptableError(Double.parseDouble(minimumAcceptableError));
+        network.setSnapshotInterval(Integer.parseInt(snapshotInterval));
+        network.setMetrics(metrics);
+
+        var interval = Integer.parseInt(checkpointInterval);
+        var period = Double.parseDouble(checkpointPeriod);
+        if (interval > 0 || period > 0) {
+            network.setCheckpointer(new Checkpointer(getCheckpointPath(), interval, period));
+        }
+
+        if (validationDataset != null) {
+            var patience = Integer.parseInt(earlyStoppingPatience);
+            network.setEarlyStopping(new EarlyStopping(validationDataset, patience, Integer.parseInt(errorEvaluationInterval)));
+        }
 
         return network;
     }
 
+    private ActivationFunction createActivationFunction() {
+        switch (activationFunctionType) {
+            case TANH:
+                return new Tanh(activationApproximation);
+            case RELU:
+                return new Relu();
+            case LEAKY_RELU:
+                return new LeakyRelu(LEAKY_RELU_SLOPE);
+            default:
+                return new Sigmoid(activationApproximation);
+        }
+    }
+
+    private LossFunction createLossFunction() {
+        if (lossFunctionType == LossFunctionType.SOFTMAX_CROSS_ENTROPY) {
+            return new SoftmaxCrossEntropy();
+        }
+
+        return new MeanSquaredError();
+    }
+
+    private LearningRateSchedule createLearningRateSchedule() {
+        var period = Integer.parseInt(learningRateSchedulePeriod);
+
+        switch (learningRateScheduleType) {
+            case STEP_DECAY:
+                return new StepDecaySchedule(period, STEP_DECAY_FACTOR);
+            case COSINE:
+                return new CosineSchedule(period, ANNEALING_MINIMUM_FACTOR);
+            case WARM_RESTARTS:
+                return new WarmRestartsSchedule(period, WARM_RESTARTS_PERIOD_MULTIPLIER, ANNEALING_MINIMUM_FACTOR);
+            case REDUCE_ON_PLATEAU:
+                return new ReduceOnPlateauSchedule(period, PLATEAU_DECAY_FACTOR);
+            default:
+                return new ConstantSchedule();
+        }
+    }
+
+    private Sampler createSampler(SplittableRandom random) {
+        switch (samplingMethod) {
+            case SEQUENTIAL:
+                return new SequentialSampler();
+            case WITH_REPLACEMENT:
+                return new ReplacementSampler(random);
+            default:
+                return new EpochShuffleSampler(random);
+        }
+    }
+
+    private Optimizer createOptimizer() {
+        switch (optimizationMethod) {
+            case MOMENTUM:
+                return new MomentumOptimizer(MOMENTUM);
+            case NESTEROV:
+                return new NesterovOptimizer(MOMENTUM);
+            case RMS_PROP:
+                return new RmsPropOptimizer(RMS_PROP_DECAY, OPTIMIZER_EPSILON);
+            case ADAM:
+                return new AdamOptimizer(ADAM_FIRST_MOMENT_DECAY, ADAM_SECOND_MOMENT_DECAY, OPTIMIZER_EPSILON);
+            default:
+                return new GradientDescentOptimizer();
+        }
+    }
+
+    private FullBatchMethod getFullBatchMethod() {
+        if (trainingMethod != TrainingMethod.BATCH) return FullBatchMethod.OPTIMIZER;
+
+        switch (fullBatchAlgorithm) {
+            case LBFGS:
+                return FullBatchMethod.LBFGS;
+            case RPROP:
+                return FullBatchMethod.RPROP;
+            default:
+                return FullBatchMethod.OPTIMIZER;
+        }
+    }
+
+    private ErrorEvaluator createErrorEvaluator(SplittableRandom random) {
+        var interval = Integer.parseInt(errorEvaluationInterval);
+
+        switch (errorEvaluationMode) {
+            case BACKGROUND:
+                return new BackgroundErrorEvaluator(interval);
+            case SAMPLED:
+                return new SampledErrorEvaluator(interval, SAMPLED_ERROR_EVALUATION_SAMPLE_COUNT, random);
+            case MOVING_AVERAGE:
+                return new MovingAverageErrorEvaluator(MOVING_AVERAGE_ERROR_SMOOTHING);
+            default:
+                return new FullErrorEvaluator(interval);
+        }
+    }
+
+    // Only the network being trained runs on the selected backend, predicting keeps its own.
+    private LinearAlgebraBackend selectLinearAlgebraBackend(int[] layers, int batchSize) {
+        var name = settings.getStringProperty(LINEAR_ALGEBRA_BACKEND);
+
+        if (name.equalsIgnoreCase(AUTOMATIC_LINEAR_ALGEBRA_BACKEND)) {
+            var calibration = LinearAlgebraBackends.calibrate(layers, batchSize);
+            listener.onNextState(new TrainingState.Backend(calibration.getFastest().getName(), calibration.toString()));
+            return calibration.getFastest();
+        }
+
+        var backend = LinearAlgebraBackends.find(name).orElseThrow(() ->
+                new IllegalStateException("Linear algebra backend '" + name + "' is not available."));
+
+        listener.onNextState(new TrainingState.Backend(backend.getName(), null));
+        return backend;
+    }
+
     private int getBatchSize(Dataset dataset) {
         if (trainingMethod == TrainingMethod.MINI_BATCH) {
             var batchSize = Integer.parseInt(miniBatchSize);
@@ -132,7 +478,8 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
             return batchSize;
         }
 
-        return trainingMethod == TrainingMethod.STOCHASTIC ? 1 : dataset.size();
+        // Asynchronous workers always update the weights one sample at a time.
+        return trainingMethod == TrainingMethod.BATCH ? dataset.size() : 1;
     }
 
     public void setTrainingMethod(TrainingMethod trainingMethod) {
@@ -147,18 +494,78 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         notifyListenerOnSettingsState();
     }
 
+    public void setTrainingThreads(String trainingThreads) {
+        this.trainingThreads = trainingThreads;
+        savePropertyIfValid(TRAINING_THREADS, this::isTrainingThreadsValid, trainingThreads);
+        notifyListenerOnSettingsState();
+    }
+
+    public void setSamplingMethod(SamplingMethod samplingMethod) {
+        this.samplingMethod = samplingMethod;
+        settings.setStringProperty(SAMPLING_METHOD, samplingMethod.toString());
+    }
+
+    public void setOptimizationMethod(OptimizationMethod optimizationMethod) {
+        this.optimizationMethod = optimizationMethod;
+        settings.setStringProperty(OPTIMIZATION_METHOD, optimizationMethod.toString());
+    }
+
+    public void setFullBatchAlgorithm(FullBatchAlgorithm fullBatchAlgorithm) {
+        this.fullBatchAlgorithm = fullBatchAlgorithm;
+        settings.setStringProperty(FULL_BATCH_ALGORITHM, fullBatchAlgorithm.toString());
+    }
+
+    public void setErrorEvaluationMode(ErrorEvaluationMode errorEvaluationMode) {
+        this.errorEvaluationMode = errorEvaluationMode;
+        settings.setStringProperty(ERROR_EVALUATION_MODE, errorEvaluationMode.toString());
+        notifyListenerOnSettingsState();
+    }
+
+    public void setErrorEvaluationInterval(String errorEvaluationInterval) {
+        this.errorEvaluationInterval = errorEvaluationInterval;
+        savePropertyIfValid(ERROR_EVALUATION_INTERVAL, this::isErrorEvaluationIntervalValid, errorEvaluationInterval);
+        notifyListenerOnSettingsState();
+    }
+
     public void setHiddenLayersDefinition(String hiddenLayersDefinition) {
         this.hiddenLayersDefinition = hiddenLayersDefinition;
         savePropertyIfValid(HIDDEN_LAYERS_DEFINITION, this::isHiddenLayersDefinitionValid, hiddenLayersDefinition);
         notifyListenerOnSettingsState();
     }
 
+    public void setActivationFunctionType(ActivationFunctionType activationFunctionType) {
+        this.activationFunctionType = activationFunctionType;
+        settings.setStringProperty(ACTIVATION_FUNCTION, activationFunctionType.toString());
+    }
+
+    public void setActivationApproximation(Approximation activationApproximation) {
+        this.activationApproximation = activationApproximation;
+        settings.setStringProperty(TRAINING_ACTIVATION_APPROXIMATION, activationApproximation.toString());
+    }
+
+    public void setLossFunctionType(LossFunctionType lossFunctionType) {
+        this.lossFunctionType = lossFunctionType;
+        settings.setStringProperty(LOSS_FUNCTION, lossFunctionType.toString());
+    }
+
     public void setLearningRate(String learningRate) {
         this.learningRate = learningRate;
         savePropertyIfValid(LEARNING_RATE, this::isLearningRateValid, learningRate);
         notifyListenerOnSettingsState();
     }
 
+    public void setLearningRateScheduleType(LearningRateScheduleType learningRateScheduleType) {
+        this.learningRateScheduleType = learningRateScheduleType;
+        settings.setStringProperty(LEARNING_RATE_SCHEDULE, learningRateScheduleType.toString());
+        notifyListenerOnSettingsState();
+    }
+
+    public void setLearningRateSchedulePeriod(String learningRateSchedulePeriod) {
+        this.learningRateSchedulePeriod = learningRateSchedulePeriod;
+        savePropertyIfValid(LEARNING_RATE_SCHEDULE_PERIOD, this::isLearningRateSchedulePeriodValid, learningRateSchedulePeriod);
+        notifyListenerOnSettingsState();
+    }
+
     public void setMinimumAcceptableError(String minimumAcceptableError) {
         this.minimumAcceptableError = minimumAcceptableError;
         savePropertyIfValid(MINIMUM_ACCEPTABLE_ERROR, this::isMinimumAcceptableErrorValid, minimumAcceptableError);
@@ -171,12 +578,48 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         notifyListenerOnSettingsState();
     }
 
+    public void setValidationSplit(String validationSplit) {
+        this.validationSplit = validationSplit;
+        savePropertyIfValid(VALIDATION_SPLIT, this::isValidationSplitValid, validationSplit);
+        notifyListenerOnSettingsState();
+    }
+
+    public void setEarlyStoppingPatience(String earlyStoppingPatience) {
+        this.earlyStoppingPatience = earlyStoppingPatience;
+        savePropertyIfValid(EARLY_STOPPING_PATIENCE, this::isEarlyStoppingPatienceValid, earlyStoppingPatience);
+        notifyListenerOnSettingsState();
+    }
+
     public void setAdditionalPermutationsPerSample(String additionalPermutationsPerSample) {
         this.additionalPermutationsPerSample = additionalPermutationsPerSample;
         savePropertyIfValid(ADDITIONAL_PERMUTATIONS_PER_SAMPLE, this::isAdditionalPermutationsPerSampleValid, additionalPermutationsPerSample);
         notifyListenerOnSettingsState();
     }
 
+    public void setCheckpointInterval(String checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+        savePropertyIfValid(CHECKPOINT_INTERVAL, this::isCheckpointIntervalValid, checkpointInterval);
+        notifyListenerOnSettingsState();
+    }
+
+    public void setCheckpointPeriod(String checkpointPeriod) {
+        this.checkpointPeriod = checkpointPeriod;
+        savePropertyIfValid(CHECKPOINT_PERIOD, this::isCheckpointPeriodValid, checkpointPeriod);
+        notifyListenerOnSettingsState();
+    }
+
+    public void setSnapshotInterval(String snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+        savePropertyIfValid(SNAPSHOT_INTERVAL, this::isSnapshotIntervalValid, snapshotInterval);
+        notifyListenerOnSettingsState();
+    }
+
+    public void setRandomSeed(String randomSeed) {
+        this.randomSeed = randomSeed;
+        savePropertyIfValid(RANDOM_SEED, this::isRandomSeedValid, randomSeed);
+        notifyListenerOnSettingsState();
+    }
+
     public void setWeightsDrawingMode(WeightsDrawingMode weightsDrawingMode) {
         this.weightsDrawingMode = weightsDrawingMode;
         settings.setStringProperty(WEIGHTS_DRAWING_MODE, weightsDrawingMode.toString());
@@ -196,14 +639,58 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         return miniBatchSize;
     }
 
+    public String getTrainingThreads() {
+        return trainingThreads;
+    }
+
+    public SamplingMethod getSamplingMethod() {
+        return samplingMethod;
+    }
+
+    public OptimizationMethod getOptimizationMethod() {
+        return optimizationMethod;
+    }
+
+    public FullBatchAlgorithm getFullBatchAlgorithm() {
+        return fullBatchAlgorithm;
+    }
+
+    public ErrorEvaluationMode getErrorEvaluationMode() {
+        return errorEvaluationMode;
+    }
+
+    public String getErrorEvaluationInterval() {
+        return errorEvaluationInterval;
+    }
+
     public String getHiddenLayersDefinition() {
         return hiddenLayersDefinition;
     }
 
+    public ActivationFunctionType getActivationFunctionType() {
+        return activationFunctionType;
+    }
+
+    public Approximation getActivationApproximation() {
+        return activationApproximation;
+    }
+
+    public LossFunctionType getLossFunctionType() {
+        return lossFunctionType;
+    }
+
     public String getLearningRate() {
         return learningRate;
     }
 
+    public LearningRateScheduleType getLearningRateScheduleType() {
+        return learningRateScheduleType;
+    }
+
+    public String getLearningRateSchedulePeriod() {
+        return learningRateSchedulePeriod;
+    }
+
     public String getMinimumAcceptableError() {
         return minimumAcceptableError;
     }
@@ -212,10 +699,34 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         return maximumNumberOfIterations;
     }
 
+    public String getValidationSplit() {
+        return validationSplit;
+    }
+
+    public String getEarlyStoppingPatience() {
+        return earlyStoppingPatience;
+    }
+
     public String getAdditionalPermutationsPerSample() {
         return additionalPermutationsPerSample;
     }
 
+    public String getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public String getCheckpointPeriod() {
+        return checkpointPeriod;
+    }
+
+    public String getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public String getRandomSeed() {
+        return randomSeed;
+    }
+
     public WeightsDrawingMode getWeightsDrawingMode() {
         return weightsDrawingMode;
     }
@@ -251,12 +762,25 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         listener.onNextState(
                 new TrainingState.Settings(
                         isMiniBatchSizeValid(),
+                        isTrainingThreadsValid(),
+                        isErrorEvaluationIntervalValid(),
                         isHiddenLayersDefinitionValid(),
                         isLearningRateValid(),
+                        isLearningRateSchedulePeriodValid(),
                         isMinimumAcceptableErrorValid(),
                         isMaximumNumberOfIterationsValid(),
+                        isValidationSplitValid(),
+                        isEarlyStoppingPatienceValid(),
                         isAdditionalPermutationsPerSampleValid(),
+                        isRandomSeedValid(),
+                        isCheckpointIntervalValid(),
+                        isCheckpointPeriodValid(),
+                        isSnapshotIntervalValid(),
                         isMiniBatchSectionEnabled(),
+                        isFullBatchSectionEnabled(),
+                        isErrorEvaluationIntervalEnabled(),
+                        isLearningRateSchedulePeriodEnabled(),
+                        isEarlyStoppingPatienceEnabled(),
                         useRandomWeightColors
                 )
         );
@@ -264,6 +788,11 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         notifyListenerOnTrainButtonState();
     }
 
+    private void notifyListenerOnFitFinish() {
+        listener.onNextState(new TrainingState.FitFinish(neuralNetwork.getStopReason().toString()));
+        notifyListenerOnSettingsState();
+    }
+
     private void notifyListenerOnTrainButtonState() {
         listener.onNextState(
                 new TrainingState.TrainButton(
@@ -281,6 +810,14 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         return UserInputValidator.assertIntegerWithLowerBound(miniBatchSize, MIN_MINI_BATCH_SIZE);
     }
 
+    private boolean isTrainingThreadsValid() {
+        return UserInputValidator.assertIntegerWithLowerBound(trainingThreads, MIN_TRAINING_THREADS);
+    }
+
+    private boolean isErrorEvaluationIntervalValid() {
+        return UserInputValidator.assertIntegerWithLowerBound(errorEvaluationInterval, MIN_ERROR_EVALUATION_INTERVAL);
+    }
+
     private boolean isHiddenLayersDefinitionValid() {
         var hiddenLayers = hiddenLayersDefinition.split(HIDDEN_LAYERS_DEFINITION_SEPARATOR, -1);
 
@@ -300,6 +837,10 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         return UserInputValidator.assertDoubleWithLowerBound(learningRate, MIN_LEARNING_RATE);
     }
 
+    private boolean isLearningRateSchedulePeriodValid() {
+        return UserInputValidator.assertIntegerWithLowerBound(learningRateSchedulePeriod, MIN_LEARNING_RATE_SCHEDULE_PERIOD);
+    }
+
     private boolean isMinimumAcceptableErrorValid() {
         return UserInputValidator.assertDoubleWithLowerBound(minimumAcceptableError, MIN_ACCEPTABLE_ERROR);
     }
@@ -308,21 +849,70 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         return UserInputValidator.assertIntegerWithLowerBound(maximumNumberOfIterations, MIN_NUMBER_OF_ITERATIONS);
     }
 
+    private boolean isValidationSplitValid() {
+        return UserInputValidator.assertDoubleInRange(validationSplit, MIN_VALIDATION_SPLIT, MAX_VALIDATION_SPLIT);
+    }
+
+    private boolean isEarlyStoppingPatienceValid() {
+        return UserInputValidator.assertIntegerWithLowerBound(earlyStoppingPatience, MIN_EARLY_STOPPING_PATIENCE);
+    }
+
     private boolean isAdditionalPermutationsPerSampleValid() {
         return UserInputValidator.assertIntegerWithLowerBound(additionalPermutationsPerSample, MIN_ADDITIONAL_PERMUTATIONS_PER_SAMPLE);
     }
 
+    private boolean isCheckpointIntervalValid() {
+        return UserInputValidator.assertIntegerWithLowerBound(checkpointInterval, MIN_CHECKPOINT_INTERVAL);
+    }
+
+    private boolean isCheckpointPeriodValid() {
+        return UserInputValidator.assertDoubleWithLowerBound(checkpointPeriod, MIN_CHECKPOINT_PERIOD);
+    }
+
+    private boolean isSnapshotIntervalValid() {
+        return UserInputValidator.assertIntegerWithLowerBound(snapshotInterval, MIN_SNAPSHOT_INTERVAL);
+    }
+
+    private boolean isRandomSeedValid() {
+        return randomSeed.equalsIgnoreCase(UNSEEDED_RANDOM_SEED) || UserInputValidator.assertLong(randomSeed);
+    }
+
     private boolean isMiniBatchSectionEnabled() {
         return trainingMethod == TrainingMethod.MINI_BATCH;
     }
 
+    private boolean isFullBatchSectionEnabled() {
+        return trainingMethod == TrainingMethod.BATCH;
+    }
+
+    private boolean isErrorEvaluationIntervalEnabled() {
+        return errorEvaluationMode != ErrorEvaluationMode.MOVING_AVERAGE;
+    }
+
+    private boolean isLearningRateSchedulePeriodEnabled() {
+        return learningRateScheduleType != LearningRateScheduleType.CONSTANT;
+    }
+
+    private boolean isEarlyStoppingPatienceEnabled() {
+        return isValidationSplitValid() && Double.parseDouble(validationSplit) > 0;
+    }
+
     private boolean isEverySettingValid() {
         return isMiniBatchSizeValid() &&
+                isTrainingThreadsValid() &&
+                isErrorEvaluationIntervalValid() &&
                 isHiddenLayersDefinitionValid() &&
                 isLearningRateValid() &&
+                isLearningRateSchedulePeriodValid() &&
                 isMinimumAcceptableErrorValid() &&
                 isMaximumNumberOfIterationsValid() &&
-                isAdditionalPermutationsPerSampleValid();
+                isValidationSplitValid() &&
+                isEarlyStoppingPatienceValid() &&
+                isAdditionalPermutationsPerSampleValid() &&
+                isRandomSeedValid() &&
+                isCheckpointIntervalValid() &&
+                isCheckpointPeriodValid() &&
+                isSnapshotIntervalValid();
     }
 
     private boolean isNetworkBeingFitted() {
@@ -334,6 +924,11 @@ public class TrainingModel implements SettingsListener, NeuralNetworkHolder {
         return neuralNetwork;
     }
 
+    @Override
+    public List<String> getLabels() {
+        return labels;
+    }
+
     @Override
     public void addChangeListener(NeuralNetworkChangeListener listener) {
         listeners.add(listener);
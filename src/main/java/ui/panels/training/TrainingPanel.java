@@ -1,6 +1,7 @@
 package ui.panels.training;
 
 import network.NeuralNetwork;
+import network.activation.Approximation;
 import network.holder.NeuralNetworkChangeListener;
 import ui.Colors;
 import ui.panels.ModelListener;
@@ -33,25 +34,78 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
     private final JLabel miniBatchSizeLabel = createLabel("Mini-batch size:");
     private final JTextField miniBatchSizeField = new JTextField();
 
+    private final JLabel trainingThreadsLabel = createLabel("Training threads:");
+    private final JTextField trainingThreadsField = new JTextField();
+
+    private final JLabel samplingMethodLabel = createLabel("Sampling method:");
+    private final JComboBox<SamplingMethod> samplingMethodComboBox = new JComboBox<>();
+
+    private final JLabel optimizationMethodLabel = createLabel("Optimization method:");
+    private final JComboBox<OptimizationMethod> optimizationMethodComboBox = new JComboBox<>();
+
+    private final JLabel fullBatchAlgorithmLabel = createLabel("Full batch algorithm:");
+    private final JComboBox<FullBatchAlgorithm> fullBatchAlgorithmComboBox = new JComboBox<>();
+
+    private final JLabel errorEvaluationModeLabel = createLabel("Error evaluation:");
+    private final JComboBox<ErrorEvaluationMode> errorEvaluationModeComboBox = new JComboBox<>();
+
+    private final JLabel errorEvaluationIntervalLabel = createLabel("Error evaluation interval (iterations):");
+    private final JTextField errorEvaluationIntervalField = new JTextField();
+
     private final JLabel hiddenLayersDefinitionLabel = createLabel("Hidden layers definition (L1 x L2 x ... x Ln):");
     private final JTextField hiddenLayersDefinitionField = new JTextField();
 
+    private final JLabel activationFunctionLabel = createLabel("Activation function:");
+    private final JComboBox<ActivationFunctionType> activationFunctionComboBox = new JComboBox<>();
+
+    private final JLabel activationApproximationLabel = createLabel("Activation approximation (sigmoid, tanh):");
+    private final JComboBox<Approximation> activationApproximationComboBox = new JComboBox<>();
+
+    private final JLabel lossFunctionLabel = createLabel("Loss function:");
+    private final JComboBox<LossFunctionType> lossFunctionComboBox = new JComboBox<>();
+
     private final JLabel learningRateLabel = createLabel("Learning rate:");
     private final JTextField learningRateField = new JTextField();
 
+    private final JLabel learningRateScheduleLabel = createLabel("Learning rate schedule:");
+    private final JComboBox<LearningRateScheduleType> learningRateScheduleComboBox = new JComboBox<>();
+
+    private final JLabel learningRateSchedulePeriodLabel = createLabel("Learning rate schedule period (iterations):");
+    private final JTextField learningRateSchedulePeriodField = new JTextField();
+
     private final JLabel minimumAcceptableErrorLabel = createLabel("Minimum acceptable error:");
     private final JTextField minimumAcceptableErrorField = new JTextField();
 
     private final JLabel maxIterationsLabel = createLabel("Maximum number of iterations:");
     private final JTextField maxIterationsField = new JTextField();
 
+    private final JLabel validationSplitLabel = createLabel("Validation split (0 disables early stopping):");
+    private final JTextField validationSplitField = new JTextField();
+
+    private final JLabel earlyStoppingPatienceLabel = createLabel("Early stopping patience (iterations):");
+    private final JTextField earlyStoppingPatienceField = new JTextField();
+
     private final JLabel additionalPermutationsPerSampleLabel = createLabel("Additional permutations per sample:");
     private final JTextField additionalPermutationsPerLabelField = new JTextField();
 
+    private final JLabel randomSeedLabel = createLabel("Random seed (number or 'Random'):");
+    private final JTextField randomSeedField = new JTextField();
+
+    private final JLabel checkpointIntervalLabel = createLabel("Checkpoint every N iterations (0 = never):");
+    private final JTextField checkpointIntervalField = new JTextField();
+
+    private final JLabel checkpointPeriodLabel = createLabel("Checkpoint every N seconds (0 = never):");
+    private final JTextField checkpointPeriodField = new JTextField();
+
+    private final JLabel snapshotIntervalLabel = createLabel("Weights snapshot every N iterations (0 = at the end):");
+    private final JTextField snapshotIntervalField = new JTextField();
+
     private final JLabel weightsDrawingModeLabel = createLabel("Weights drawing mode:");
     private final JComboBox<WeightsDrawingMode> weightsDrawingModeComboBox = new JComboBox<>();
 
+    private final JLabel backendLabel = createLabel("");
     private final JLabel trainingStatusLabel = createLabel("");
+    private final JLabel stopReasonLabel = createLabel("");
     private final JButton trainNeuralNetworkButton = new JButton();
 
     private final TrainingModel model;
@@ -64,11 +118,28 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
 
         trainingMethodComboBox.setSelectedItem(model.getTrainingMethod());
         miniBatchSizeField.setText(model.getMiniBatchSize());
+        trainingThreadsField.setText(model.getTrainingThreads());
+        samplingMethodComboBox.setSelectedItem(model.getSamplingMethod());
+        optimizationMethodComboBox.setSelectedItem(model.getOptimizationMethod());
+        fullBatchAlgorithmComboBox.setSelectedItem(model.getFullBatchAlgorithm());
+        errorEvaluationModeComboBox.setSelectedItem(model.getErrorEvaluationMode());
+        errorEvaluationIntervalField.setText(model.getErrorEvaluationInterval());
         hiddenLayersDefinitionField.setText(model.getHiddenLayersDefinition());
+        activationFunctionComboBox.setSelectedItem(model.getActivationFunctionType());
+        activationApproximationComboBox.setSelectedItem(model.getActivationApproximation());
+        lossFunctionComboBox.setSelectedItem(model.getLossFunctionType());
         learningRateField.setText(model.getLearningRate());
+        learningRateScheduleComboBox.setSelectedItem(model.getLearningRateScheduleType());
+        learningRateSchedulePeriodField.setText(model.getLearningRateSchedulePeriod());
         minimumAcceptableErrorField.setText(model.getMinimumAcceptableError());
         maxIterationsField.setText(model.getMaximumNumberOfIterations());
+        validationSplitField.setText(model.getValidationSplit());
+        earlyStoppingPatienceField.setText(model.getEarlyStoppingPatience());
         additionalPermutationsPerLabelField.setText(model.getAdditionalPermutationsPerSample());
+        randomSeedField.setText(model.getRandomSeed());
+        checkpointIntervalField.setText(model.getCheckpointInterval());
+        checkpointPeriodField.setText(model.getCheckpointPeriod());
+        snapshotIntervalField.setText(model.getSnapshotInterval());
         weightsDrawingModeComboBox.setSelectedItem(model.getWeightsDrawingMode());
         neuralNetworkView.setDrawingMode(model.getWeightsDrawingMode());
         neuralNetworkView.setUseRandomColors(model.getUseRandomWeightColors());
@@ -87,6 +158,39 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
         trainingMethodComboBox.addItem(TrainingMethod.STOCHASTIC);
         trainingMethodComboBox.addItem(TrainingMethod.MINI_BATCH);
         trainingMethodComboBox.addItem(TrainingMethod.BATCH);
+        trainingMethodComboBox.addItem(TrainingMethod.ASYNCHRONOUS);
+
+        for (var method : SamplingMethod.values()) {
+            samplingMethodComboBox.addItem(method);
+        }
+
+        for (var method : OptimizationMethod.values()) {
+            optimizationMethodComboBox.addItem(method);
+        }
+
+        for (var algorithm : FullBatchAlgorithm.values()) {
+            fullBatchAlgorithmComboBox.addItem(algorithm);
+        }
+
+        for (var mode : ErrorEvaluationMode.values()) {
+            errorEvaluationModeComboBox.addItem(mode);
+        }
+
+        for (var type : ActivationFunctionType.values()) {
+            activationFunctionComboBox.addItem(type);
+        }
+
+        for (var approximation : Approximation.values()) {
+            activationApproximationComboBox.addItem(approximation);
+        }
+
+        for (var type : LossFunctionType.values()) {
+            lossFunctionComboBox.addItem(type);
+        }
+
+        for (var type : LearningRateScheduleType.values()) {
+            learningRateScheduleComboBox.addItem(type);
+        }
 
         weightsDrawingModeComboBox.addItem(WeightsDrawingMode.DRAW_ALL);
         weightsDrawingModeComboBox.addItem(WeightsDrawingMode.DRAW_POSITIVE);
@@ -104,25 +208,78 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
         panel.add(miniBatchSizeLabel);
         panel.add(miniBatchSizeField);
 
+        panel.add(trainingThreadsLabel);
+        panel.add(trainingThreadsField);
+
+        panel.add(samplingMethodLabel);
+        panel.add(samplingMethodComboBox);
+
+        panel.add(optimizationMethodLabel);
+        panel.add(optimizationMethodComboBox);
+
+        panel.add(fullBatchAlgorithmLabel);
+        panel.add(fullBatchAlgorithmComboBox);
+
+        panel.add(errorEvaluationModeLabel);
+        panel.add(errorEvaluationModeComboBox);
+
+        panel.add(errorEvaluationIntervalLabel);
+        panel.add(errorEvaluationIntervalField);
+
         panel.add(hiddenLayersDefinitionLabel);
         panel.add(hiddenLayersDefinitionField);
 
+        panel.add(activationFunctionLabel);
+        panel.add(activationFunctionComboBox);
+
+        panel.add(activationApproximationLabel);
+        panel.add(activationApproximationComboBox);
+
+        panel.add(lossFunctionLabel);
+        panel.add(lossFunctionComboBox);
+
         panel.add(learningRateLabel);
         panel.add(learningRateField);
 
+        panel.add(learningRateScheduleLabel);
+        panel.add(learningRateScheduleComboBox);
+
+        panel.add(learningRateSchedulePeriodLabel);
+        panel.add(learningRateSchedulePeriodField);
+
         panel.add(minimumAcceptableErrorLabel);
         panel.add(minimumAcceptableErrorField);
 
         panel.add(maxIterationsLabel);
         panel.add(maxIterationsField);
 
+        panel.add(validationSplitLabel);
+        panel.add(validationSplitField);
+
+        panel.add(earlyStoppingPatienceLabel);
+        panel.add(earlyStoppingPatienceField);
+
         panel.add(additionalPermutationsPerSampleLabel);
         panel.add(additionalPermutationsPerLabelField);
 
+        panel.add(randomSeedLabel);
+        panel.add(randomSeedField);
+
+        panel.add(checkpointIntervalLabel);
+        panel.add(checkpointIntervalField);
+
+        panel.add(checkpointPeriodLabel);
+        panel.add(checkpointPeriodField);
+
+        panel.add(snapshotIntervalLabel);
+        panel.add(snapshotIntervalField);
+
         panel.add(weightsDrawingModeLabel);
         panel.add(weightsDrawingModeComboBox);
 
+        panel.add(backendLabel);
         panel.add(trainingStatusLabel);
+        panel.add(stopReasonLabel);
         panel.add(trainNeuralNetworkButton);
 
         trainingMethodComboBox.addItemListener(e -> {
@@ -134,21 +291,96 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
         miniBatchSizeField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setMiniBatchSize(miniBatchSizeField.getText()));
 
+        trainingThreadsField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setTrainingThreads(trainingThreadsField.getText()));
+
+        samplingMethodComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setSamplingMethod((SamplingMethod) e.getItem());
+            }
+        });
+
+        optimizationMethodComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setOptimizationMethod((OptimizationMethod) e.getItem());
+            }
+        });
+
+        fullBatchAlgorithmComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setFullBatchAlgorithm((FullBatchAlgorithm) e.getItem());
+            }
+        });
+
+        errorEvaluationModeComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setErrorEvaluationMode((ErrorEvaluationMode) e.getItem());
+            }
+        });
+
+        errorEvaluationIntervalField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setErrorEvaluationInterval(errorEvaluationIntervalField.getText()));
+
         hiddenLayersDefinitionField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setHiddenLayersDefinition(hiddenLayersDefinitionField.getText()));
 
+        activationFunctionComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setActivationFunctionType((ActivationFunctionType) e.getItem());
+            }
+        });
+
+        activationApproximationComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setActivationApproximation((Approximation) e.getItem());
+            }
+        });
+
+        lossFunctionComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setLossFunctionType((LossFunctionType) e.getItem());
+            }
+        });
+
         learningRateField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setLearningRate(learningRateField.getText()));
 
+        learningRateScheduleComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED) {
+                model.setLearningRateScheduleType((LearningRateScheduleType) e.getItem());
+            }
+        });
+
+        learningRateSchedulePeriodField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setLearningRateSchedulePeriod(learningRateSchedulePeriodField.getText()));
+
         minimumAcceptableErrorField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setMinimumAcceptableError(minimumAcceptableErrorField.getText()));
 
         maxIterationsField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setMaximumNumberOfIterations(maxIterationsField.getText()));
 
+        validationSplitField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setValidationSplit(validationSplitField.getText()));
+
+        earlyStoppingPatienceField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setEarlyStoppingPatience(earlyStoppingPatienceField.getText()));
+
         additionalPermutationsPerLabelField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
                 model.setAdditionalPermutationsPerSample(additionalPermutationsPerLabelField.getText()));
 
+        randomSeedField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setRandomSeed(randomSeedField.getText()));
+
+        checkpointIntervalField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setCheckpointInterval(checkpointIntervalField.getText()));
+
+        checkpointPeriodField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setCheckpointPeriod(checkpointPeriodField.getText()));
+
+        snapshotIntervalField.getDocument().addDocumentListener((SimpleDocumentListener) e ->
+                model.setSnapshotInterval(snapshotIntervalField.getText()));
+
         weightsDrawingModeComboBox.addItemListener(e -> {
             if (e.getStateChange() == ItemEvent.SELECTED) {
                 var weightsDrawingMode = (WeightsDrawingMode) e.getItem();
@@ -187,9 +419,18 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
         else if (state instanceof TrainingState.FitStatus) {
             renderFitStatus((TrainingState.FitStatus) state);
         }
+        else if (state instanceof TrainingState.FitFinish) {
+            renderFitFinish((TrainingState.FitFinish) state);
+        }
+        else if (state instanceof TrainingState.Backend) {
+            renderBackend((TrainingState.Backend) state);
+        }
         else if (state instanceof TrainingState.TrainButton) {
             renderTrainButton((TrainingState.TrainButton) state);
         }
+        else if (state instanceof TrainingState.CheckpointFound) {
+            renderCheckpointFound((TrainingState.CheckpointFound) state);
+        }
         else if (state instanceof TrainingState.Error) {
             renderError((TrainingState.Error) state);
         }
@@ -200,17 +441,50 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
             miniBatchSizeLabel.setEnabled(state.isMiniBatchSectionEnabled);
             miniBatchSizeField.setEnabled(state.isMiniBatchSectionEnabled);
             miniBatchSizeLabel.setForeground(state.isMiniBatchSizeValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            trainingThreadsLabel.setForeground(state.isTrainingThreadsValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            fullBatchAlgorithmLabel.setEnabled(state.isFullBatchSectionEnabled);
+            fullBatchAlgorithmComboBox.setEnabled(state.isFullBatchSectionEnabled);
+            errorEvaluationIntervalLabel.setEnabled(state.isErrorEvaluationIntervalEnabled);
+            errorEvaluationIntervalField.setEnabled(state.isErrorEvaluationIntervalEnabled);
+            errorEvaluationIntervalLabel.setForeground(state.isErrorEvaluationIntervalValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
             hiddenLayersDefinitionLabel.setForeground(state.isHiddenLayersDefinitionValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
             learningRateLabel.setForeground(state.isLearningRateValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            learningRateSchedulePeriodLabel.setEnabled(state.isLearningRateSchedulePeriodEnabled);
+            learningRateSchedulePeriodField.setEnabled(state.isLearningRateSchedulePeriodEnabled);
+            learningRateSchedulePeriodLabel.setForeground(state.isLearningRateSchedulePeriodValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
             minimumAcceptableErrorLabel.setForeground(state.isMinimumAcceptableErrorValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
             maxIterationsLabel.setForeground(state.isMaximumNumberOfIterationsValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            validationSplitLabel.setForeground(state.isValidationSplitValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            earlyStoppingPatienceLabel.setEnabled(state.isEarlyStoppingPatienceEnabled);
+            earlyStoppingPatienceField.setEnabled(state.isEarlyStoppingPatienceEnabled);
+            earlyStoppingPatienceLabel.setForeground(state.isEarlyStoppingPatienceValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
             additionalPermutationsPerSampleLabel.setForeground(state.isAdditionalPermutationsPerSampleValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            randomSeedLabel.setForeground(state.isRandomSeedValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            checkpointIntervalLabel.setForeground(state.isCheckpointIntervalValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            checkpointPeriodLabel.setForeground(state.isCheckpointPeriodValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
+            snapshotIntervalLabel.setForeground(state.isSnapshotIntervalValid ? Colors.VALID_TEXT : Colors.INVALID_TEXT);
             neuralNetworkView.setUseRandomColors(state.useRandomWeightColors);
         });
     }
 
     private void renderFitStatus(TrainingState.FitStatus state) {
-        SwingUtilities.invokeLater(() -> trainingStatusLabel.setText("Iterations: " + state.iteration + " | Error: " + state.error));
+        SwingUtilities.invokeLater(() -> trainingStatusLabel.setText(createFitStatusText(state)));
+    }
+
+    private static String createFitStatusText(TrainingState.FitStatus state) {
+        var text = "Iterations: " + state.iteration + " | Error: " + state.error + " | Samples/s: " + Math.round(state.samplesPerSecond);
+
+        if (Double.isNaN(state.evaluationsPerSecond)) return text;
+        return text + " | Evaluations/s: " + String.format("%.1f", state.evaluationsPerSecond);
+    }
+
+    private void renderFitFinish(TrainingState.FitFinish state) {
+        SwingUtilities.invokeLater(() -> stopReasonLabel.setText("Stopped: " + state.stopReason));
+    }
+
+    private void renderBackend(TrainingState.Backend state) {
+        var text = "Linear algebra backend: " + state.name + (state.calibration == null ? "" : " (" + state.calibration + ")");
+        SwingUtilities.invokeLater(() -> backendLabel.setText(text));
     }
 
     private void renderTrainButton(TrainingState.TrainButton state) {
@@ -218,6 +492,15 @@ public class TrainingPanel extends JPanel implements ModelListener<TrainingState
             trainNeuralNetworkButton.setEnabled(state.isNetworkBeingFitted || state.isEverySettingValid);
             trainNeuralNetworkButton.setText(state.isNetworkBeingFitted ? TRAIN_BUTTON_STOP_TEXT : TRAIN_BUTTON_START_TEXT);
             trainNeuralNetworkButton.setBackground(state.isNetworkBeingFitted ? TRAIN_BUTTON_STOP_COLOR : TRAIN_BUTTON_START_COLOR);
+            if (state.isNetworkBeingFitted) stopReasonLabel.setText("");
+        });
+    }
+
+    private void renderCheckpointFound(TrainingState.CheckpointFound state) {
+        SwingUtilities.invokeLater(() -> {
+            var message = "Training was interrupted at iteration " + state.iteration + ". Resume from the latest checkpoint?";
+            var option = JOptionPane.showConfirmDialog(null, message, "Checkpoint found", JOptionPane.YES_NO_OPTION);
+            if (option == JOptionPane.YES_OPTION) model.resumeFromCheckpoint();
         });
     }
 
@@ -5,38 +5,112 @@ public abstract class TrainingState {
     public static class FitStatus extends TrainingState {
         public final int iteration;
         public final double error;
+        public final double samplesPerSecond;
 
-        public FitStatus(int iteration, double error) {
+        // Passes over the whole dataset per second, only known when every batch is the whole dataset.
+        public final double evaluationsPerSecond;
+
+        public FitStatus(int iteration, double error, double samplesPerSecond, double evaluationsPerSecond) {
             this.iteration = iteration;
             this.error = error;
+            this.samplesPerSecond = samplesPerSecond;
+            this.evaluationsPerSecond = evaluationsPerSecond;
+        }
+    }
+
+    public static class Backend extends TrainingState {
+        public final String name;
+
+        // Time of every backend when the backend was calibrated, null when it was selected by name.
+        public final String calibration;
+
+        public Backend(String name, String calibration) {
+            this.name = name;
+            this.calibration = calibration;
+        }
+    }
+
+    public static class FitFinish extends TrainingState {
+        public final String stopReason;
+
+        public FitFinish(String stopReason) {
+            this.stopReason = stopReason;
+        }
+    }
+
+    // A checkpoint of a fit that never finished was found, so it can be resumed.
+    public static class CheckpointFound extends TrainingState {
+        public final int iteration;
+
+        public CheckpointFound(int iteration) {
+            this.iteration = iteration;
         }
     }
 
     public static class Settings extends TrainingState {
         public final boolean isMiniBatchSizeValid;
+        public final boolean isTrainingThreadsValid;
+        public final boolean isErrorEvaluationIntervalValid;
         public final boolean isHiddenLayersDefinitionValid;
         public final boolean isLearningRateValid;
+        public final boolean isLearningRateSchedulePeriodValid;
         public final boolean isMinimumAcceptableErrorValid;
         public final boolean isMaximumNumberOfIterationsValid;
+        public final boolean isValidationSplitValid;
+        public final boolean isEarlyStoppingPatienceValid;
         public final boolean isAdditionalPermutationsPerSampleValid;
+        public final boolean isRandomSeedValid;
+        public final boolean isCheckpointIntervalValid;
+        public final boolean isCheckpointPeriodValid;
+        public final boolean isSnapshotIntervalValid;
         public final boolean isMiniBatchSectionEnabled;
+        public final boolean isFullBatchSectionEnabled;
+        public final boolean isErrorEvaluationIntervalEnabled;
+        public final boolean isLearningRateSchedulePeriodEnabled;
+        public final boolean isEarlyStoppingPatienceEnabled;
         public final boolean useRandomWeightColors;
 
         public Settings(boolean isMiniBatchSizeValid,
+                        boolean isTrainingThreadsValid,
+                        boolean isErrorEvaluationIntervalValid,
                         boolean isHiddenLayersDefinitionValid,
                         boolean isLearningRateValid,
+                        boolean isLearningRateSchedulePeriodValid,
                         boolean isMinimumAcceptableErrorValid,
                         boolean isMaximumNumberOfIterationsValid,
+                        boolean isValidationSplitValid,
+                        boolean isEarlyStoppingPatienceValid,
                         boolean isAdditionalPermutationsPerSampleValid,
+                        boolean isRandomSeedValid,
+                        boolean isCheckpointIntervalValid,
+                        boolean isCheckpointPeriodValid,
+                        boolean isSnapshotIntervalValid,
                         boolean isMiniBatchSectionEnabled,
+                        boolean isFullBatchSectionEnabled,
+                        boolean isErrorEvaluationIntervalEnabled,
+                        boolean isLearningRateSchedulePeriodEnabled,
+                        boolean isEarlyStoppingPatienceEnabled,
                         boolean useRandomWeightColors) {
             this.isMiniBatchSizeValid = isMiniBatchSizeValid;
+            this.isTrainingThreadsValid = isTrainingThreadsValid;
+            this.isErrorEvaluationIntervalValid = isErrorEvaluationIntervalValid;
             this.isHiddenLayersDefinitionValid = isHiddenLayersDefinitionValid;
             this.isLearningRateValid = isLearningRateValid;
+            this.isLearningRateSchedulePeriodValid = isLearningRateSchedulePeriodValid;
             this.isMinimumAcceptableErrorValid = isMinimumAcceptableErrorValid;
             this.isMaximumNumberOfIterationsValid = isMaximumNumberOfIterationsValid;
+            this.isValidationSplitValid = isValidationSplitValid;
+            this.isEarlyStoppingPatienceValid = isEarlyStoppingPatienceValid;
             this.isAdditionalPermutationsPerSampleValid = isAdditionalPermutationsPerSampleValid;
+            this.isRandomSeedValid = isRandomSeedValid;
+            this.isCheckpointIntervalValid = isCheckpointIntervalValid;
+            this.isCheckpointPeriodValid = isCheckpointPeriodValid;
+            this.isSnapshotIntervalValid = isSnapshotIntervalValid;
             this.isMiniBatchSectionEnabled = isMiniBatchSectionEnabled;
+            this.isFullBatchSectionEnabled = isFullBatchSectionEnabled;
+            this.isErrorEvaluationIntervalEnabled = isErrorEvaluationIntervalEnabled;
+            this.isLearningRateSchedulePeriodEnabled = isLearningRateSchedulePeriodEnabled;
+            this.isEarlyStoppingPatienceEnabled = isEarlyStoppingPatienceEnabled;
             this.useRandomWeightColors = useRandomWeightColors;
         }
     }
@@ -1,18 +1,17 @@
 package ui.views;
 
-import math.Matrix;
-import math.Vector;
 import network.NeuralNetwork;
 import network.NeuralNetworkFitFinishListener;
+import network.NeuralNetworkFitUpdateListener;
+import network.WeightSnapshot;
 import ui.Colors;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Random;
+import java.util.SplittableRandom;
 
-public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFinishListener {
-
-    private static final Random RANDOM = new Random();
+// Paints the latest weight snapshot of the network, so it can follow the weights while the network is being fitted.
+public class NeuralNetworkView extends JComponent implements NeuralNetworkFitUpdateListener, NeuralNetworkFitFinishListener {
 
     private static final Color BACKGROUND_COLOR = Colors.WHITE;
     private static final Color INPUT_NEURON_COLOR = Colors.BLACK;
@@ -33,7 +32,11 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
     private static final Stroke NEURON_STROKE = new BasicStroke(0f);
     private static final Stroke WEIGHT_STROKE = new BasicStroke(0f);
 
+    // Only used while painting, which always happens on the event dispatch thread.
+    private final SplittableRandom random = new SplittableRandom();
+
     private NeuralNetwork neuralNetwork;
+    private volatile long paintedVersion = -1;
     private WeightsDrawingMode drawingMode = WeightsDrawingMode.DRAW_ALL;
 
     private boolean useRandomColors;
@@ -42,14 +45,19 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
         if (this.neuralNetwork == neuralNetwork) return;
 
         if (this.neuralNetwork != null) {
+            this.neuralNetwork.removeFitUpdateListener(this);
             this.neuralNetwork.removeFitFinishListener(this);
         }
 
         this.neuralNetwork = neuralNetwork;
+        paintedVersion = -1;
 
         if (this.neuralNetwork != null) {
+            this.neuralNetwork.addFitUpdateListener(this);
             this.neuralNetwork.addFitFinishListener(this);
         }
+
+        repaint();
     }
 
     public void setDrawingMode(WeightsDrawingMode drawingMode) {
@@ -67,31 +75,33 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
         g.setColor(BACKGROUND_COLOR);
         g.fillRect(0, 0, getWidth(), getHeight());
         if (neuralNetwork == null) return;
-        paintWeights((Graphics2D) g);
-        paintNeurons((Graphics2D) g);
+
+        // Weights and neurons are painted from the same snapshot, so they always belong to the same iteration.
+        var snapshot = neuralNetwork.getSnapshot();
+        paintedVersion = snapshot.getVersion();
+        paintWeights((Graphics2D) g, snapshot);
+        paintNeurons((Graphics2D) g, snapshot);
     }
 
-    private void paintWeights(Graphics2D g) {
+    private void paintWeights(Graphics2D g, WeightSnapshot snapshot) {
         g.setStroke(WEIGHT_STROKE);
-        Matrix[] weights = neuralNetwork.getWeights();
-        int[] layers = neuralNetwork.getLayers();
+        int[] layers = snapshot.getLayers();
         int width = getWidthWithPadding();
         int height = getHeight();
         int neuronLayerSpacingHorizontal = width / (layers.length - 1);
 
-        double max = findAbsoluteMax(weights);
+        double max = findAbsoluteMaxWeight(snapshot);
 
-        for (int layer = 0; layer < weights.length; layer++) {
-            var W = weights[layer];
-            int rows = W.getRows();
-            int cols = W.getColumns();
+        for (int layer = 0; layer < layers.length - 1; layer++) {
+            int rows = layers[layer + 1];
+            int cols = layers[layer];
 
             int neuronLayerSpacingVertical1 = Math.round((float) height / (layers[layer] + 1));
             int neuronLayerSpacingVertical2 = Math.round((float) height / (layers[layer + 1] + 1));
 
             for (int row = 0; row < rows; row++) {
                 for (int col = 0; col < cols; col++) {
-                    var weight = W.get(row, col) / max;
+                    var weight = snapshot.getWeight(layer, col, row) / max;
                     if (!shouldDrawWeight(weight)) continue;
 
                     g.setColor(getColorForWeight(weight));
@@ -120,32 +130,17 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
         }
     }
 
-    private static double findAbsoluteMax(Matrix[] matrices) {
-        var max = Double.NEGATIVE_INFINITY;
-
-        for (var matrix : matrices) {
-            var matrixMax = findAbsoluteMax(matrix);
-
-            if (matrixMax > max) {
-                max = matrixMax;
-            }
-        }
-
-        return max;
-    }
-
-    private static double findAbsoluteMax(Matrix matrix) {
+    private static double findAbsoluteMaxWeight(WeightSnapshot snapshot) {
         var max = Double.NEGATIVE_INFINITY;
 
-        int rows = matrix.getRows();
-        int cols = matrix.getColumns();
+        for (int layer = 0; layer < snapshot.getLayerCount() - 1; layer++) {
+            for (int to = 0; to < snapshot.getNeuronCount(layer + 1); to++) {
+                for (int from = 0; from < snapshot.getNeuronCount(layer); from++) {
+                    var entry = Math.abs(snapshot.getWeight(layer, from, to));
 
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                var entry = Math.abs(matrix.get(row, col));
-
-                if (entry > max) {
-                    max = entry;
+                    if (entry > max) {
+                        max = entry;
+                    }
                 }
             }
         }
@@ -153,8 +148,8 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
         return max;
     }
 
-    private void paintNeurons(Graphics2D g) {
-        int[] layers = neuralNetwork.getLayers();
+    private void paintNeurons(Graphics2D g, WeightSnapshot snapshot) {
+        int[] layers = snapshot.getLayers();
         int width = getWidthWithPadding();
         int height = getHeight();
         int neuronLayerSpacingHorizontal = width / (layers.length - 1);
@@ -169,8 +164,7 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
             g.drawOval(PADDING - INPUT_NEURON_RADIUS, y - INPUT_NEURON_RADIUS, diameter, diameter);
         }
 
-        var biases = neuralNetwork.getBiases();
-        var max = findAbsoluteMax(biases);
+        var max = findAbsoluteMaxBias(snapshot);
 
         for (int i = 1; i < layers.length; i++) {
             int x = neuronLayerSpacingHorizontal * i + PADDING;
@@ -178,7 +172,7 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
 
             for (int j = 0; j < layers[i]; j++) {
                 int y = neuronLayerSpacingVertical * (j + 1);
-                var bias = biases[i - 1].get(j) / max;
+                var bias = snapshot.getBias(i - 1, j) / max;
                 if (!shouldDrawWeight(bias)) continue;
 
                 g.setColor(getColorForWeight(bias));
@@ -193,7 +187,7 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
 
     private Color getColorForWeight(double weight) {
         if (useRandomColors) {
-            return new Color(RANDOM.nextFloat(), RANDOM.nextFloat(), RANDOM.nextFloat(), (float) Math.abs(weight));
+            return new Color(random.nextFloat(), random.nextFloat(), random.nextFloat(), (float) Math.abs(weight));
         }
         else if (weight < 0) {
             return new Color(NEGATIVE_WEIGHT_R, NEGATIVE_WEIGHT_G, NEGATIVE_WEIGHT_B, (float) Math.abs(weight));
@@ -203,36 +197,34 @@ public class NeuralNetworkView extends JComponent implements NeuralNetworkFitFin
         }
     }
 
-    private static double findAbsoluteMax(Vector[] vectors) {
+    private static double findAbsoluteMaxBias(WeightSnapshot snapshot) {
         var max = Double.NEGATIVE_INFINITY;
 
-        for (var vector : vectors) {
-            var vectorMax = findAbsoluteMax(vector);
+        for (int layer = 0; layer < snapshot.getLayerCount() - 1; layer++) {
+            for (int neuron = 0; neuron < snapshot.getNeuronCount(layer + 1); neuron++) {
+                var entry = Math.abs(snapshot.getBias(layer, neuron));
 
-            if (vectorMax > max) {
-                max = vectorMax;
+                if (entry > max) {
+                    max = entry;
+                }
             }
         }
 
         return max;
     }
 
-    private static double findAbsoluteMax(Vector vector) {
-        var max = Double.NEGATIVE_INFINITY;
+    private int getWidthWithPadding() {
+        return getWidth() - 2 * PADDING;
+    }
 
-        for (int i = 0, size = vector.size(); i < size; i++) {
-            var entry = Math.abs(vector.get(i));
+    // Called on the fitting thread, which is fine as repaint requests are coalesced on the event dispatch thread.
+    @Override
+    public void onFitUpdate(int iteration, double error, double samplesPerSecond) {
+        var network = neuralNetwork;
 
-            if (entry > max) {
-                max = entry;
-            }
+        if (network != null && network.getSnapshot().getVersion() != paintedVersion) {
+            repaint();
         }
-
-        return max;
-    }
-
-    private int getWidthWithPadding() {
-        return getWidth() - 2 * PADDING;
     }
 
     @Override
@@ -0,0 +1,23 @@
+package util;
+
+import java.util.SplittableRandom;
+
+// Hands out independent streams of random numbers, all split off one root generator. With a seed, the same sequence of
+// requests gets the same streams on every run. Streams are cheap and not thread safe, so every component and every
+// worker thread should get one of its own instead of sharing a generator.
+public final class RandomSource {
+
+    private final SplittableRandom root;
+
+    public RandomSource() {
+        root = new SplittableRandom();
+    }
+
+    public RandomSource(long seed) {
+        root = new SplittableRandom(seed);
+    }
+
+    public synchronized SplittableRandom split() {
+        return root.split();
+    }
+}
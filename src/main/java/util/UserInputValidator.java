@@ -23,6 +23,15 @@ public class UserInputValidator {
         }
     }
 
+    public static boolean assertLong(String input) {
+        try {
+            Long.parseLong(input);
+            return true;
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
     public static boolean assertDouble(String input) {
         return assertDoubleInRange(input, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
     }
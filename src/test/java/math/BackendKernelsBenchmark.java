@@ -0,0 +1,81 @@
+package math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The per-sample kernels of every backend on a square layer, run through the backend directly so the comparison only
+// measures the kernels themselves.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackendKernelsBenchmark {
+
+    @Param({"Scalar", "Vectorized"})
+    private String backendName;
+
+    @Param({"100", "300", "1000"})
+    private int neurons;
+
+    private LinearAlgebraBackend backend;
+    private double[] matrix;
+    private double[] left;
+    private double[] right;
+    private double[] destination;
+
+    @Setup
+    public void setUp() {
+        backend = LinearAlgebraBackends.find(backendName)
+                .orElseThrow(() -> new IllegalStateException("Backend '" + backendName + "' is not available."));
+
+        var random = new SplittableRandom(neurons);
+        matrix = random.doubles((long) neurons * neurons, -1, 1).toArray();
+        left = random.doubles(neurons, -1, 1).toArray();
+        right = random.doubles(neurons, -1, 1).toArray();
+        destination = new double[neurons];
+    }
+
+    @Benchmark
+    public double dot() {
+        return backend.dot(left, right, neurons);
+    }
+
+    @Benchmark
+    public double[] scaleAndAdd() {
+        backend.scaleAndAdd(1e-9, left, destination, neurons);
+        return destination;
+    }
+
+    @Benchmark
+    public double[] times() {
+        backend.timesInto(matrix, neurons, neurons, left, destination);
+        return destination;
+    }
+
+    @Benchmark
+    public double[] transposeTimes() {
+        backend.transposeTimesInto(matrix, neurons, neurons, left, destination);
+        return destination;
+    }
+
+    // The tiny scale keeps the weights from drifting over the millions of calls of a run.
+    @Benchmark
+    public double[] addOuterProduct() {
+        backend.addOuterProduct(matrix, neurons, neurons, 1e-12, left, right);
+        return matrix;
+    }
+}
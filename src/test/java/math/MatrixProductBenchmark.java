@@ -0,0 +1,72 @@
+package math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The matrix products of one mini-batch through a square layer: the forward pass, the errors propagated back and the
+// weight gradient.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixProductBenchmark {
+
+    private static final int BATCH_SIZE = 256;
+
+    @Param({"Scalar", "Vectorized", "Blocked"})
+    private String backendName;
+
+    @Param({"128", "512", "1024"})
+    private int neurons;
+
+    private LinearAlgebraBackend backend;
+    private double[] weights;
+    private double[] inputs;
+    private double[] outputs;
+    private double[] gradient;
+
+    @Setup
+    public void setUp() {
+        backend = LinearAlgebraBackends.find(backendName)
+                .orElseThrow(() -> new IllegalStateException("Backend '" + backendName + "' is not available."));
+
+        var random = new SplittableRandom(neurons);
+        weights = random.doubles((long) neurons * neurons, -1, 1).toArray();
+        inputs = random.doubles((long) BATCH_SIZE * neurons, -1, 1).toArray();
+        outputs = new double[BATCH_SIZE * neurons];
+        gradient = new double[neurons * neurons];
+    }
+
+    @Benchmark
+    public double[] forward() {
+        backend.multiplyTransposedInto(inputs, BATCH_SIZE, neurons, weights, neurons, outputs);
+        return outputs;
+    }
+
+    @Benchmark
+    public double[] backward() {
+        backend.multiplyInto(inputs, BATCH_SIZE, neurons, weights, neurons, outputs);
+        return outputs;
+    }
+
+    // The tiny scale keeps the gradient from growing over the calls of a run.
+    @Benchmark
+    public double[] weightGradient() {
+        backend.addTransposeMultiplied(1e-12, inputs, neurons, BATCH_SIZE, inputs, neurons, gradient);
+        return gradient;
+    }
+}
@@ -0,0 +1,97 @@
+package math;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Every backend must compute the matrix products of mini-batch fitting as the scalar backend does. The shapes leave
+// remainders after the blocks of 4 rows and of vector lanes, and the largest ones are split by the parallel backend.
+class MatrixProductTest {
+
+    private static final double TOLERANCE = 1e-9;
+    private static final LinearAlgebraBackend REFERENCE = new ScalarBackend();
+
+    // Rows, inner dimension and columns of the product.
+    private static final int[][] SHAPES = {
+            {1, 1, 1},
+            {4, 4, 4},
+            {5, 7, 3},
+            {8, 300, 5},
+            {257, 13, 9},
+            {257, 300, 17},
+            {300, 260, 270},
+    };
+
+    // The parallel backend only splits products on machines with more than one core, unless it is told how many chunks to use.
+    static Stream<Arguments> backendsAndShapes() {
+        return Stream.concat(LinearAlgebraBackends.getAvailable().stream(), Stream.of(new ParallelBackend(4)))
+                .flatMap(backend -> Stream.of(SHAPES).map(shape -> Arguments.of(backend, shape[0], shape[1], shape[2])));
+    }
+
+    @ParameterizedTest
+    @MethodSource("backendsAndShapes")
+    void multiplyIntoMatchesScalarBackend(LinearAlgebraBackend backend, int rows, int inner, int columns) {
+        var random = new SplittableRandom(rows * 31L + inner * 7L + columns);
+        var left = randomArray(random, rows * inner);
+        var right = randomArray(random, inner * columns);
+
+        var expected = randomArray(random, rows * columns);
+        var actual = expected.clone();
+        REFERENCE.multiplyInto(left, rows, inner, right, columns, expected);
+        backend.multiplyInto(left, rows, inner, right, columns, actual);
+
+        assertClose(expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("backendsAndShapes")
+    void multiplyTransposedIntoMatchesScalarBackend(LinearAlgebraBackend backend, int rows, int inner, int columns) {
+        var random = new SplittableRandom(rows * 31L + inner * 7L + columns);
+        var left = randomArray(random, rows * inner);
+        var right = randomArray(random, columns * inner);
+
+        var expected = randomArray(random, rows * columns);
+        var actual = expected.clone();
+        REFERENCE.multiplyTransposedInto(left, rows, inner, right, columns, expected);
+        backend.multiplyTransposedInto(left, rows, inner, right, columns, actual);
+
+        assertClose(expected, actual);
+    }
+
+    // The left operand is read column by column here, which is the transposed layout of the other two products.
+    @ParameterizedTest
+    @MethodSource("backendsAndShapes")
+    void addTransposeMultipliedMatchesScalarBackend(LinearAlgebraBackend backend, int rows, int inner, int columns) {
+        var random = new SplittableRandom(rows * 31L + inner * 7L + columns);
+        var left = randomArray(random, inner * rows);
+        var right = randomArray(random, inner * columns);
+
+        var expected = randomArray(random, rows * columns);
+        var actual = expected.clone();
+        REFERENCE.addTransposeMultiplied(-0.25, left, rows, inner, right, columns, expected);
+        backend.addTransposeMultiplied(-0.25, left, rows, inner, right, columns, actual);
+
+        assertClose(expected, actual);
+    }
+
+    private static double[] randomArray(SplittableRandom random, int length) {
+        var array = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextDouble(-1, 1);
+        }
+
+        return array;
+    }
+
+    private static void assertClose(double[] expected, double[] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], TOLERANCE * Math.max(1, Math.abs(expected[i])), "Element " + i);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Transposed matrix times vector on a square layer, as used for the hidden-layer error: the original loop that walks
+// the row-major weights column by column against the kernel that walks them row by row.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransposeTimesBenchmark {
+
+    @Param({"100", "300", "1000"})
+    private int neurons;
+
+    private LinearAlgebraBackend backend;
+    private Matrix weights;
+    private Vector errors;
+    private Vector result;
+
+    @Setup
+    public void setUp() {
+        // The row-wise kernel as it was written, before any other backend existed.
+        backend = new ScalarBackend();
+
+        var random = new SplittableRandom(neurons);
+        weights = Matrix.of(neurons, neurons, random.doubles((long) neurons * neurons, -1, 1).toArray());
+        errors = Vector.of(random.doubles(neurons, -1, 1).toArray());
+        result = Vector.zero(neurons);
+    }
+
+    @Benchmark
+    public Vector columnWise() {
+        var matrix = weights.getValues();
+        var vector = errors.getValues();
+        var destination = result.getValues();
+        var rows = weights.getRows();
+        var columns = weights.getColumns();
+
+        for (int column = 0; column < columns; column++) {
+            var sum = 0.0;
+
+            for (int row = 0; row < rows; row++) {
+                sum += matrix[row * columns + column] * vector[row];
+            }
+
+            destination[column] = sum;
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Vector rowWise() {
+        weights.transposeTimesInto(backend, errors, result);
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package network;
+
+import math.LinearAlgebraBackend;
+import math.LinearAlgebraBackends;
+import math.ParallelBackend;
+import network.activation.Sigmoid;
+import network.evaluation.MovingAverageErrorEvaluator;
+import network.initializers.RandomWeightInitializer;
+import network.progress.FitProgressPublisher;
+import network.progress.SampledSubscriber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import structures.Dataset;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Once the JIT has compiled the training loop, an iteration of mini-batch fitting must not allocate anything.
+class AllocationFreeFitTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final int LARGE_WARMUP_ITERATIONS = 10_000;
+    private static final int LARGE_MEASURED_ITERATIONS = 2_000;
+
+    static List<LinearAlgebraBackend> backends() {
+        return LinearAlgebraBackends.getAvailable();
+    }
+
+    // Only the parallel backend treats large layers differently. It only splits products on machines with more than
+    // one core, unless it is told how many chunks to use.
+    static Stream<LinearAlgebraBackend> largeLayerBackends() {
+        return Stream.concat(LinearAlgebraBackends.find("Parallel").stream(), Stream.of(new ParallelBackend(4)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void singleSampleIterationsDoNotAllocate(LinearAlgebraBackend backend) {
+        var network = createNetwork(backend, 1, 20, 16, 4);
+        assertEquals(0, measureSteadyStateAllocation(network, WARMUP_ITERATIONS, MEASURED_ITERATIONS));
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void miniBatchIterationsDoNotAllocate(LinearAlgebraBackend backend) {
+        var network = createNetwork(backend, 16, 20, 16, 4);
+        assertEquals(0, measureSteadyStateAllocation(network, WARMUP_ITERATIONS, MEASURED_ITERATIONS));
+    }
+
+    // A hidden layer of 300 x 256 weights is large enough for the parallel backend to split every product. Measuring
+    // the whole error every iteration would take most of the time here, so the batch errors are averaged instead.
+    @ParameterizedTest
+    @MethodSource("largeLayerBackends")
+    void largeLayerIterationsDoNotAllocate(LinearAlgebraBackend backend) {
+        for (var batchSize : new int[]{1, 4}) {
+            var network = createNetwork(backend, batchSize, 300, 256, 4);
+            network.setErrorEvaluator(new MovingAverageErrorEvaluator(0.1));
+            assertEquals(0, measureSteadyStateAllocation(network, LARGE_WARMUP_ITERATIONS, LARGE_MEASURED_ITERATIONS));
+        }
+    }
+
+    // The subscriber asks for the progress of the first iteration only, like a sampled subscriber between two samples.
+    @Test
+    void iterationsPublishedToWaitingSubscriberDoNotAllocate() {
+        var network = createNetwork(LinearAlgebraBackends.getDefault(), 16, 20, 16, 4);
+        var received = new AtomicInteger();
+
+        try (var publisher = new FitProgressPublisher()) {
+            publisher.subscribe(new SampledSubscriber<>(1e-3, progress -> received.incrementAndGet()));
+            network.addFitUpdateListener(publisher);
+            assertEquals(0, measureSteadyStateAllocation(network, WARMUP_ITERATIONS, MEASURED_ITERATIONS));
+        }
+
+        assertEquals(1, received.get());
+    }
+
+    private static NeuralNetwork createNetwork(LinearAlgebraBackend backend, int batchSize, int... layers) {
+        var network = new NeuralNetwork(new RandomWeightInitializer(-0.5, 0.5, new SplittableRandom(1)), new Sigmoid(), layers);
+        network.setLinearAlgebraBackend(backend);
+        network.setBatchSize(batchSize);
+        network.setMinAcceptableError(-1);
+        return network;
+    }
+
+    // Reads the allocation counter of the fitting thread from a fit update listener, which runs on that thread.
+    private static long measureSteadyStateAllocation(NeuralNetwork network, int warmupIterations, int measuredIterations) {
+        var threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Thread allocation counters are not available.");
+
+        var allocationCounter = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocationCounter.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported.");
+        allocationCounter.setThreadAllocatedMemoryEnabled(true);
+
+        network.setMaxIterations(warmupIterations + measuredIterations);
+
+        var allocatedBytes = new long[2];
+        network.addFitUpdateListener((iteration, error, samplesPerSecond) -> {
+            if (iteration == warmupIterations) {
+                allocatedBytes[0] = allocationCounter.getCurrentThreadAllocatedBytes();
+            }
+            else if (iteration == warmupIterations + measuredIterations) {
+                allocatedBytes[1] = allocationCounter.getCurrentThreadAllocatedBytes();
+            }
+        });
+
+        var layers = network.getLayers();
+        network.fit(createDataset(200, layers[0], layers[layers.length - 1]));
+        return allocatedBytes[1] - allocatedBytes[0];
+    }
+
+    private static Dataset createDataset(int size, int inputs, int outputs) {
+        var random = new SplittableRandom(2);
+        var x = new double[size][inputs];
+        var y = new double[size][outputs];
+
+        for (int sample = 0; sample < size; sample++) {
+            for (int input = 0; input < inputs; input++) {
+                x[sample][input] = random.nextDouble(-1, 1);
+            }
+
+            y[sample][sample % outputs] = 1;
+        }
+
+        return new Dataset(x, y);
+    }
+}
@@ -0,0 +1,164 @@
+package network;
+
+import network.activation.Sigmoid;
+import network.evaluation.ErrorEvaluator;
+import network.evaluation.FullErrorEvaluator;
+import network.evaluation.SampledErrorEvaluator;
+import network.initializers.RandomWeightInitializer;
+import network.io.CheckpointFile;
+import network.optimizers.GradientDescentOptimizer;
+import network.optimizers.MomentumOptimizer;
+import network.optimizers.NesterovOptimizer;
+import network.optimizers.Optimizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import structures.Dataset;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Resuming from a checkpoint must carry on where the checkpoint left off, including at an iteration that does not line
+// up with the error evaluation interval.
+class CheckpointResumeTest {
+
+    private static final int CHECKPOINT_ITERATION = 37;
+    private static final int EVALUATION_INTERVAL = 10;
+    private static final int MAX_ITERATIONS = 60;
+    private static final double MIN_ACCEPTABLE_ERROR = 1e-3;
+
+    @TempDir
+    Path directory;
+
+    static List<Supplier<ErrorEvaluator>> evaluators() {
+        return List.of(
+                () -> new FullErrorEvaluator(EVALUATION_INTERVAL),
+                () -> new SampledErrorEvaluator(EVALUATION_INTERVAL, 1000, new SplittableRandom(3))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("evaluators")
+    void resumedFitMeasuresTheErrorOnItsFirstIteration(Supplier<ErrorEvaluator> evaluator) throws IOException {
+        var dataset = createDataset(200, 20, 4);
+        var checkpoint = writeCheckpoint(dataset, new GradientDescentOptimizer());
+        assertEquals(CHECKPOINT_ITERATION, checkpoint.getIteration());
+
+        var network = createNetwork();
+        network.setErrorEvaluator(evaluator.get());
+        network.resumeFrom(checkpoint);
+
+        var iterations = new ArrayList<Integer>();
+        var errors = new ArrayList<Double>();
+        network.addFitUpdateListener((iteration, error, samplesPerSecond) -> {
+            iterations.add(iteration);
+            errors.add(error);
+        });
+        network.fit(dataset);
+
+        assertEquals(CHECKPOINT_ITERATION + 1, iterations.get(0));
+        assertTrue(errors.get(0) > MIN_ACCEPTABLE_ERROR, "First error after resuming was " + errors.get(0) + ".");
+        assertEquals(FitStopReason.MAX_ITERATIONS_REACHED, network.getStopReason());
+        assertEquals(MAX_ITERATIONS, iterations.get(iterations.size() - 1));
+    }
+
+    @Test
+    void checkpointRecordsTheOptimizer() throws IOException {
+        var checkpoint = writeCheckpoint(createDataset(200, 20, 4), new MomentumOptimizer(0.9));
+
+        assertEquals("Momentum", checkpoint.getOptimizerName());
+        assertArrayEquals(new double[] {0.9}, checkpoint.getHyperparameters());
+    }
+
+    // Momentum and Nesterov momentum keep state of the same shape, only the recorded name tells them apart.
+    @Test
+    void resumeRejectsADifferentOptimizer() throws IOException {
+        var dataset = createDataset(200, 20, 4);
+        var network = createNetwork();
+        network.setOptimizer(new NesterovOptimizer(0.9));
+        network.resumeFrom(writeCheckpoint(dataset, new MomentumOptimizer(0.9)));
+
+        assertThrows(IllegalStateException.class, () -> network.fit(dataset));
+    }
+
+    @Test
+    void resumeRejectsDifferentHyperparameters() throws IOException {
+        var dataset = createDataset(200, 20, 4);
+        var network = createNetwork();
+        network.setOptimizer(new MomentumOptimizer(0.5));
+        network.resumeFrom(writeCheckpoint(dataset, new MomentumOptimizer(0.9)));
+
+        assertThrows(IllegalStateException.class, () -> network.fit(dataset));
+    }
+
+    // Only mini-batch fitting with an optimizer can continue from a checkpoint, the others must not silently start over.
+    @Test
+    void fullBatchFittingRejectsResuming() throws IOException {
+        var dataset = createDataset(200, 20, 4);
+        var network = createNetwork();
+        network.setBatchSize(dataset.size());
+        network.setFullBatchMethod(FullBatchMethod.LBFGS);
+        network.resumeFrom(writeCheckpoint(dataset, new GradientDescentOptimizer()));
+
+        assertThrows(IllegalStateException.class, () -> network.fit(dataset));
+        assertFalse(network.isBeingFitted());
+    }
+
+    @Test
+    void asynchronousFittingRejectsResuming() throws IOException {
+        var dataset = createDataset(200, 20, 4);
+        var network = createNetwork();
+        network.setBatchSize(1);
+        network.setParallelism(2);
+        network.setAsynchronous(true);
+        network.resumeFrom(writeCheckpoint(dataset, new GradientDescentOptimizer()));
+
+        assertThrows(IllegalStateException.class, () -> network.fit(dataset));
+        assertFalse(network.isBeingFitted());
+    }
+
+    private CheckpointFile writeCheckpoint(Dataset dataset, Optimizer optimizer) throws IOException {
+        var path = directory.resolve("model.checkpoint");
+        var network = createNetwork();
+        network.setOptimizer(optimizer);
+        network.setMaxIterations(CHECKPOINT_ITERATION);
+        network.setCheckpointer(new Checkpointer(path, CHECKPOINT_ITERATION, 0));
+        network.fit(dataset);
+        return CheckpointFile.read(path);
+    }
+
+    private static NeuralNetwork createNetwork() {
+        var network = new NeuralNetwork(new RandomWeightInitializer(-0.5, 0.5, new SplittableRandom(1)), new Sigmoid(), 20, 16, 4);
+        network.setBatchSize(8);
+        network.setMaxIterations(MAX_ITERATIONS);
+        network.setMinAcceptableError(MIN_ACCEPTABLE_ERROR);
+        return network;
+    }
+
+    private static Dataset createDataset(int size, int inputs, int outputs) {
+        var random = new SplittableRandom(2);
+        var x = new double[size][inputs];
+        var y = new double[size][outputs];
+
+        for (int sample = 0; sample < size; sample++) {
+            for (int input = 0; input < inputs; input++) {
+                x[sample][input] = random.nextDouble(-1, 1);
+            }
+
+            y[sample][sample % outputs] = 1;
+        }
+
+        return new Dataset(x, y);
+    }
+}
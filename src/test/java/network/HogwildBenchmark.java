@@ -0,0 +1,95 @@
+package network;
+
+import network.activation.Sigmoid;
+import network.evaluation.FullErrorEvaluator;
+import network.initializers.RandomWeightInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import structures.Dataset;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Time for stochastic fitting to reach the target error, on a single thread versus with Hogwild workers. The single
+// thread measures the whole error once per epoch, which is about as often as the fitting thread of Hogwild manages.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class HogwildBenchmark {
+
+    private static final int SAMPLES = 2000;
+    private static final int INPUTS = 40;
+    private static final int CLASSES = 8;
+    private static final double TARGET_ERROR = 0.02;
+    private static final int MAX_ITERATIONS = 10_000_000;
+
+    // One trains synchronously on the fitting thread, more trains asynchronously on that many workers.
+    @Param({"1", "2", "4"})
+    private int threads;
+
+    private final Dataset dataset = createDataset();
+    private long seed;
+    private NeuralNetwork network;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        var random = new SplittableRandom(seed++);
+        network = new NeuralNetwork(new RandomWeightInitializer(-0.5, 0.5, random.split()), new Sigmoid(), INPUTS, 32, CLASSES);
+        network.setLearningRate(0.1);
+        network.setBatchSize(1);
+        network.setParallelism(threads);
+        network.setAsynchronous(threads > 1);
+        network.setErrorEvaluator(new FullErrorEvaluator(SAMPLES));
+        network.setRandom(random.split());
+        network.setMaxIterations(MAX_ITERATIONS);
+        network.setMinAcceptableError(TARGET_ERROR);
+    }
+
+    @Benchmark
+    public NeuralNetwork fitToTargetError() {
+        network.fit(dataset);
+
+        if (network.getStopReason() != FitStopReason.MIN_ERROR_REACHED)
+            throw new IllegalStateException("Fitting stopped before reaching the target error: " + network.getStopReason());
+
+        return network;
+    }
+
+    // Noisy clusters around one random centre per class.
+    private static Dataset createDataset() {
+        var random = new SplittableRandom(3);
+        var centres = new double[CLASSES][INPUTS];
+
+        for (var centre : centres) {
+            for (int input = 0; input < centre.length; input++) {
+                centre[input] = random.nextDouble(-1, 1);
+            }
+        }
+
+        var x = new double[SAMPLES][INPUTS];
+        var y = new double[SAMPLES][CLASSES];
+
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            for (int input = 0; input < INPUTS; input++) {
+                x[sample][input] = centres[sample % CLASSES][input] + random.nextDouble(-0.5, 0.5);
+            }
+
+            y[sample][sample % CLASSES] = 1;
+        }
+
+        return new Dataset(x, y);
+    }
+}
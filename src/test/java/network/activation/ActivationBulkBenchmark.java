@@ -0,0 +1,106 @@
+package network.activation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+// Activating a layer and multiplying its errors by the derivative, once with an interface call for every element like
+// the matrix loops used to do, and once through the bulk methods. The per-element call sites are warmed up with the
+// other activations and the identity of the output layer first, because in training they were always megamorphic.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActivationBulkBenchmark {
+
+    private static final int POLLUTION_ROUNDS = 20_000;
+
+    @Param({"Sigmoid", "Tanh", "Relu"})
+    private String activationName;
+
+    @Param({"128", "1024"})
+    private int neurons;
+
+    private ActivationFunction activation;
+    private DoubleUnaryOperator operator;
+    private double[] inputs;
+    private double[] gradients;
+    private double[] values;
+    private double[] errors;
+
+    @Setup
+    public void setUp() {
+        activation = create(activationName);
+        operator = activation::apply;
+
+        var random = new SplittableRandom(neurons);
+        inputs = random.doubles(neurons, -4, 4).toArray();
+        gradients = random.doubles(neurons, -1, 1).toArray();
+        values = new double[neurons];
+        errors = new double[neurons];
+
+        ActivationFunction[] others = {new Sigmoid(), new Tanh(), new Relu(), new LeakyRelu(0.01)};
+        DoubleUnaryOperator identity = value -> value;
+
+        for (int round = 0; round < POLLUTION_ROUNDS; round++) {
+            var other = others[round % others.length];
+            applyEach(round % 2 == 0 ? identity : other::apply, values);
+            multiplyByEachDerivative(other, values, errors);
+        }
+    }
+
+    @Benchmark
+    public double[] perElement() {
+        System.arraycopy(inputs, 0, values, 0, neurons);
+        System.arraycopy(gradients, 0, errors, 0, neurons);
+        applyEach(operator, values);
+        multiplyByEachDerivative(activation, values, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public double[] bulk() {
+        System.arraycopy(inputs, 0, values, 0, neurons);
+        System.arraycopy(gradients, 0, errors, 0, neurons);
+        activation.applyInPlace(values, 0, neurons);
+        activation.derivativeFromOutput(values, 0, neurons, errors);
+        return errors;
+    }
+
+    private static void applyEach(DoubleUnaryOperator operator, double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = operator.applyAsDouble(values[i]);
+        }
+    }
+
+    private static void multiplyByEachDerivative(ActivationFunction activation, double[] outputs, double[] errors) {
+        for (int i = 0; i < outputs.length; i++) {
+            errors[i] *= activation.derivativeFromOutput(outputs[i]);
+        }
+    }
+
+    private static ActivationFunction create(String name) {
+        switch (name) {
+            case "Tanh":
+                return new Tanh();
+            case "Relu":
+                return new Relu();
+            default:
+                return new Sigmoid();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package network.activation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The approximations must stay within the maximum errors documented on Approximation, on the bulk path as well.
+class ApproximationAccuracyTest {
+
+    private static final double RANGE = 30;
+    private static final double STEP = 1e-4;
+
+    @Test
+    void rationalTanhStaysWithinDocumentedError() {
+        assertMaxError(new Tanh(Approximation.RATIONAL), Math::tanh, 7.1e-5);
+    }
+
+    @Test
+    void lookupTableTanhStaysWithinDocumentedError() {
+        assertMaxError(new Tanh(Approximation.LOOKUP_TABLE), Math::tanh, 5.9e-6);
+    }
+
+    @Test
+    void rationalSigmoidStaysWithinDocumentedError() {
+        assertMaxError(new Sigmoid(Approximation.RATIONAL), ApproximationAccuracyTest::sigmoid, 3.6e-5);
+    }
+
+    @Test
+    void lookupTableSigmoidStaysWithinDocumentedError() {
+        assertMaxError(new Sigmoid(Approximation.LOOKUP_TABLE), ApproximationAccuracyTest::sigmoid, 3.0e-6);
+    }
+
+    private static void assertMaxError(ActivationFunction function, DoubleUnaryOperator exact, double maxError) {
+        var count = (int) (2 * RANGE / STEP) + 1;
+        var inputs = new double[count];
+        var expected = new double[count];
+        var single = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            inputs[i] = -RANGE + i * STEP;
+            expected[i] = exact.applyAsDouble(inputs[i]);
+            single[i] = function.apply(inputs[i]);
+        }
+
+        var bulk = inputs.clone();
+        function.applyInPlace(bulk, 0, count);
+        assertArrayEquals(single, bulk);
+
+        var worstError = 0.0;
+        var worstInput = 0.0;
+
+        for (int i = 0; i < count; i++) {
+            var error = Math.abs(single[i] - expected[i]);
+
+            if (error > worstError) {
+                worstError = error;
+                worstInput = inputs[i];
+            }
+        }
+
+        assertTrue(worstError <= maxError, "Error of " + worstError + " at " + worstInput + " exceeds " + maxError + ".");
+    }
+
+    private static double sigmoid(double value) {
+        return 1 / (1 + Math.exp(-value));
+    }
+}
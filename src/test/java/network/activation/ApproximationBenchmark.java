@@ -0,0 +1,54 @@
+package network.activation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Activating a layer with the exact functions and with each approximation. The inputs cover the range weighted inputs
+// usually fall in, a few of them beyond the rational clamp of tanh.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApproximationBenchmark {
+
+    @Param({"Sigmoid", "Tanh"})
+    private String activationName;
+
+    @Param({"EXACT", "RATIONAL", "LOOKUP_TABLE"})
+    private Approximation approximation;
+
+    @Param({"1024"})
+    private int neurons;
+
+    private ActivationFunction activation;
+    private double[] inputs;
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        activation = activationName.equals("Tanh") ? new Tanh(approximation) : new Sigmoid(approximation);
+        inputs = new SplittableRandom(neurons).doubles(neurons, -6, 6).toArray();
+        values = new double[neurons];
+    }
+
+    @Benchmark
+    public double[] applyInPlace() {
+        System.arraycopy(inputs, 0, values, 0, neurons);
+        activation.applyInPlace(values, 0, neurons);
+        return values;
+    }
+}
@@ -0,0 +1,54 @@
+package network.io;
+
+import network.NeuralNetwork;
+import network.activation.Sigmoid;
+import network.initializers.RandomWeightInitializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// A corrupt layer count must be reported as a corrupt file before anything is allocated for it.
+class ModelFileTest {
+
+    // Magic, version and weights offset come before the layer count.
+    private static final int LAYER_COUNT_POSITION = 3 * Integer.BYTES;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackTheLayers() throws IOException {
+        var path = writeModel();
+        assertArrayEquals(new int[] {3, 4, 2}, ModelFile.read(path).getNeuralNetwork().getLayers());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MAX_VALUE, Integer.MIN_VALUE, -1, 0, 1, 1 << 20})
+    void rejectsCorruptLayerCount(int layerCount) throws IOException {
+        var path = writeModel();
+        var bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(LAYER_COUNT_POSITION, layerCount);
+        Files.write(path, bytes);
+
+        assertThrows(IOException.class, () -> ModelFile.read(path));
+    }
+
+    private Path writeModel() throws IOException {
+        var network = new NeuralNetwork(new RandomWeightInitializer(-0.5, 0.5, new SplittableRandom(1)), new Sigmoid(), 3, 4, 2);
+        var path = directory.resolve("model.snn");
+        ModelFile.write(path, network, List.of("a", "b"));
+        return path;
+    }
+}
@@ -0,0 +1,134 @@
+package network.optimizers;
+
+import network.FitStopReason;
+import network.NeuralNetwork;
+import network.activation.Sigmoid;
+import network.evaluation.FullErrorEvaluator;
+import network.initializers.RandomWeightInitializer;
+import network.samplers.EpochShuffleSampler;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import structures.Dataset;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Wall-clock time and iterations for mini-batch fitting to reach the target error with every optimizer. Every optimizer
+// runs with its own learning rate, as a single rate that suits plain gradient descent makes the adaptive ones diverge.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OptimizerConvergenceBenchmark {
+
+    private static final int SAMPLES = 5000;
+    private static final int INPUTS = 40;
+    private static final int CLASSES = 8;
+    private static final int BATCH_SIZE = 10;
+    private static final int EVALUATION_INTERVAL = 10;
+    private static final double TARGET_ERROR = 0.03;
+    private static final int MAX_ITERATIONS = 1_000_000;
+
+    @Param({"GradientDescent", "Momentum", "Nesterov", "RmsProp", "Adam"})
+    private String optimizerName;
+
+    private final Dataset dataset = createDataset();
+    private long seed;
+    private NeuralNetwork network;
+
+    // Reported next to the time, summed over the fits of a measurement, so ten times the iterations of a single fit.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Iterations {
+        public long iterations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            iterations = 0;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        var random = new SplittableRandom(seed++);
+        network = new NeuralNetwork(new RandomWeightInitializer(-0.5, 0.5, random.split()), new Sigmoid(), INPUTS, 32, CLASSES);
+        network.setBatchSize(BATCH_SIZE);
+        network.setSampler(new EpochShuffleSampler(random.split()));
+        network.setErrorEvaluator(new FullErrorEvaluator(EVALUATION_INTERVAL));
+        network.setMaxIterations(MAX_ITERATIONS);
+        network.setMinAcceptableError(TARGET_ERROR);
+
+        switch (optimizerName) {
+            case "Momentum":
+                network.setOptimizer(new MomentumOptimizer(0.9));
+                network.setLearningRate(0.03);
+                break;
+            case "Nesterov":
+                network.setOptimizer(new NesterovOptimizer(0.9));
+                network.setLearningRate(0.03);
+                break;
+            case "RmsProp":
+                network.setOptimizer(new RmsPropOptimizer(0.9, 1e-8));
+                network.setLearningRate(0.01);
+                break;
+            case "Adam":
+                network.setOptimizer(new AdamOptimizer(0.9, 0.999, 1e-8));
+                network.setLearningRate(0.01);
+                break;
+            default:
+                network.setOptimizer(new GradientDescentOptimizer());
+                network.setLearningRate(0.3);
+        }
+    }
+
+    @Benchmark
+    public NeuralNetwork fitToTargetError(Iterations iterations) {
+        var lastIteration = new int[1];
+        network.addFitUpdateListener((iteration, error, samplesPerSecond) -> lastIteration[0] = iteration);
+        network.fit(dataset);
+
+        if (network.getStopReason() != FitStopReason.MIN_ERROR_REACHED)
+            throw new IllegalStateException("Fitting stopped before reaching the target error: " + network.getStopReason());
+
+        iterations.iterations += lastIteration[0];
+        return network;
+    }
+
+    // Overlapping noisy clusters around one random centre per class.
+    private static Dataset createDataset() {
+        var random = new SplittableRandom(3);
+        var centres = new double[CLASSES][INPUTS];
+
+        for (var centre : centres) {
+            for (int input = 0; input < INPUTS; input++) {
+                centre[input] = random.nextDouble(-1, 1);
+            }
+        }
+
+        var x = new double[SAMPLES][INPUTS];
+        var y = new double[SAMPLES][CLASSES];
+
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            for (int input = 0; input < INPUTS; input++) {
+                x[sample][input] = centres[sample % CLASSES][input] + random.nextGaussian();
+            }
+
+            y[sample][sample % CLASSES] = 1;
+        }
+
+        return new Dataset(x, y);
+    }
+}